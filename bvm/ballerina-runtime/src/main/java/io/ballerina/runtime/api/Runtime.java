@@ -30,6 +30,7 @@ import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.BServiceType;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
 
 import java.util.Map;
 import java.util.function.Function;
@@ -138,4 +139,14 @@ public class Runtime {
     public void deregisterListener(BObject listener) {
         scheduler.getListenerRegistry().deregisterListener(listener);
     }
+
+    /**
+     * Publishes the metrics of the scheduler, such as the number of strands waiting to be executed and the time
+     * strands stay parked, to the given registry and to JMX.
+     *
+     * @param metricRegistry registry which the scheduler metrics would be registered to
+     */
+    public void registerSchedulerMetrics(MetricRegistry metricRegistry) {
+        scheduler.getMetrics().register(metricRegistry);
+    }
 }
@@ -57,6 +57,12 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_QUEUE_ENV_VAR = "BALLERINA_SCHEDULER_QUEUE";
+    public static final String SCHEDULER_QUEUE_GLOBAL = "global";
+    public static final String SCHEDULER_QUEUE_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_SCHEDULER_BACKEND_ENV_VAR = "BALLERINA_SCHEDULER_BACKEND";
+    public static final String SCHEDULER_BACKEND_PLATFORM = "platform";
+    public static final String SCHEDULER_BACKEND_VIRTUAL = "virtual";
 
     public static final Module BALLERINA_BUILTIN_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
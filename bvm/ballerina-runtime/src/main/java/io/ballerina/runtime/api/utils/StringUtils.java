@@ -48,8 +48,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -115,25 +113,31 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
+        // Most strings are in the basic multilingual plane, hence surrogates are only collected once one is found
+        int firstHighSurrogate = -1;
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                firstHighSurrogate = i;
+                break;
             }
         }
-        if (highSurrogates == null) {
+        if (firstHighSurrogate < 0) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        int surrogateCount = 1;
+        for (int i = firstHighSurrogate + 1; i < s.length(); i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                surrogateCount++;
+            }
+        }
+        int[] highSurrogatesArr = new int[surrogateCount];
+        int surrogateIndex = 0;
+        for (int i = firstHighSurrogate; i < s.length(); i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogatesArr[surrogateIndex] = i - surrogateIndex;
+                surrogateIndex++;
+            }
         }
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
@@ -29,6 +29,8 @@ import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +90,19 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator which parses the elements of a given path from a reader one at a time. An element is parsed
+     * only when it is requested, and the content before it is skipped without being built.
+     *
+     * @param reader XML reader
+     * @param path   Names of the elements from the root element to the elements which should be parsed, or an empty
+     *               list to parse the child elements of the root element
+     * @return Iterator of the parsed elements, which throws a {@link BError} if the XML cannot be parsed
+     */
+    public static Iterator<BXml> parseElements(Reader reader, List<String> path) {
+        return XmlFactory.parseElements(reader, path);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -40,6 +40,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -69,12 +70,15 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in) throws BError {
-        Object jsonObj = parse(in, Charset.defaultCharset().name());
+        Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), Charset.defaultCharset()),
+                               JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
         return changeForBString(jsonObj);
     }
 
     /**
      * Parses the contents in the given {@link InputStream} and returns a json.
+     * <p>
+     * UTF-8 content is parsed directly from the bytes by {@link Utf8JsonParser}.
      *
      * @param in          input stream which contains the JSON content
      * @param charsetName the character set name of the input stream
@@ -82,6 +86,9 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
+        if (isUtf8(charsetName)) {
+            return Utf8JsonParser.parse(in, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        }
         try {
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -92,6 +99,15 @@ public class JsonParser {
         }
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return Charset.forName(charsetName).equals(StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Let the reader report the unsupported charset
+            return false;
+        }
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded cache of the results of checking whether a type is a subtype of another type.
+ * <p>
+ * The result of a check is reused for the same pair of type instances. Types which are already published are filled
+ * in later, e.g. the fields of a record type are set after all the types of a module are created, and the immutable
+ * types of selectively immutable types are created when a value is first made read-only. Hence {@link #invalidate()}
+ * is called once the types of a module are populated and when an immutable type is set, and a result is used only
+ * if no published type is changed since the check for the result was started. Types which are created at runtime,
+ * e.g. the union types of iterators, cannot be in the cache before they are created and do not invalidate it.
+ * <p>
+ * Each pair of types has a single slot, which is overwritten by the last pair checked for the slot. Entries are
+ * immutable and are published without locking, so that strands on different threads read the cache without
+ * contending on it. A thread which does not see the latest entry of a slot checks the types again.
+ *
+ * @since 2.0.0
+ */
+public final class TypeCheckCache {
+
+    private static final int SIZE = 1 << 12;
+    private static final int MASK = SIZE - 1;
+
+    // Incremented whenever a published type is changed, which discards the results of all the earlier checks
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Discards the cached results of all type checks. This must be called after a type which may have
+     * been checked already is changed in place.
+     */
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Returns the current generation of the cache, which should be read before checking a pair of types whose
+     * result is added to the cache.
+     *
+     * @return current generation
+     */
+    static int generation() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result, or null if the result is not cached
+     */
+    Boolean get(Type sourceType, Type targetType) {
+        Entry entry = entries[indexOf(sourceType, targetType)];
+        if (entry == null || entry.sourceType != sourceType || entry.targetType != targetType ||
+                entry.generation != GENERATION.get()) {
+            return null;
+        }
+        return entry.result ? Boolean.TRUE : Boolean.FALSE;
+    }
+
+    /**
+     * Adds the result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param result     result of the check
+     * @param generation generation of the cache when the check was started
+     */
+    void put(Type sourceType, Type targetType, boolean result, int generation) {
+        if (generation != GENERATION.get()) {
+            return;
+        }
+        // A type changed after this point leaves the entry with an earlier generation, which is ignored by get
+        entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result, generation);
+    }
+
+    private static int indexOf(Type sourceType, Type targetType) {
+        int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static final class Entry {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final boolean result;
+        private final int generation;
+
+        private Entry(Type sourceType, Type targetType, boolean result, int generation) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+            this.generation = generation;
+        }
+    }
+}
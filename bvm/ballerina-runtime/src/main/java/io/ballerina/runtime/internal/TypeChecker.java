@@ -121,6 +121,8 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
+
     public static Object checkCast(Object sourceVal, Type targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -546,7 +548,16 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        // Only results checked without assuming any unresolved type pairs are cached, since the results of the
+        // nested checks of recursive types depend on the pairs which are being resolved.
+        int generation = TypeCheckCache.generation();
+        boolean result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result, generation);
+        return result;
     }
 
     @Deprecated
@@ -556,6 +567,13 @@ public class TypeChecker {
             return true;
         }
 
+        if (unresolvedTypes != null) {
+            Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+        }
+
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -673,6 +691,11 @@ public class TypeChecker {
             return checkIsType(sourceType, targetType);
         }
 
+        // A value belongs to the target type if its type does, which is checked only once for a pair of types.
+        if (unresolvedTypes == null && checkIsType(sourceType, targetType)) {
+            return true;
+        }
+
         if (targetTypeTag == TypeTags.INTERSECTION_TAG) {
             targetType = ((BIntersectionType) targetType).getEffectiveType();
             targetTypeTag = targetType.getTag();
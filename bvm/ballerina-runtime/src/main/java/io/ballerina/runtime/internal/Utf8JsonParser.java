@@ -0,0 +1,751 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+
+/**
+ * A pull parser for UTF-8 encoded JSON content.
+ * <p>
+ * Unlike {@link JsonParser}, this parser works directly on the encoded bytes and does not decode the whole input to
+ * characters first. The input is consumed one {@link Event} at a time through {@link #next()}, so a caller can walk a
+ * large array element by element and materialize only the parts it needs using {@link #readValue()}, or skip them
+ * using {@link #skipValue()}. Values are created the same way {@link JsonParser} creates them, and the same
+ * non-standard inputs, such as single quoted strings, are accepted.
+ * <p>
+ * Column numbers reported in errors are counted in bytes.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class Utf8JsonParser {
+
+    /**
+     * Events produced by the parser.
+     */
+    public enum Event {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, VALUE, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte IN_OBJECT = 1;
+    private static final byte IN_ARRAY = 2;
+
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_FIRST_FIELD = 1;
+    private static final int EXPECT_FIRST_ELEMENT = 2;
+    private static final int EXPECT_SEPARATOR = 3;
+    private static final int EXPECT_DOC_END = 4;
+    private static final int DONE = 5;
+
+    private static final int EOF = -1;
+
+    private final InputStream in;
+    private final ByteBuffer source;
+    private final JsonUtils.NonStringValueProcessingMode mode;
+    private final Type definedJsonType;
+
+    private byte[] buff;
+    private int pos;
+    private int limit;
+    // Absolute offset of buff[0] in the input
+    private long buffOffset;
+
+    private int line = 1;
+    // Absolute offset of the first byte of the current line
+    private long lineStart;
+
+    private byte[] containers = new byte[16];
+    private int depth;
+    private int expect = EXPECT_VALUE;
+
+    private Event event;
+    private Object value;
+    private BString fieldName;
+
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+
+    public Utf8JsonParser(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) {
+        this(bytes, 0, bytes.length, mode);
+    }
+
+    public Utf8JsonParser(byte[] bytes, int offset, int length, JsonUtils.NonStringValueProcessingMode mode) {
+        this(null, null, mode);
+        this.buff = bytes;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.buffOffset = -offset;
+    }
+
+    /**
+     * Creates a parser over the remaining bytes of the given buffer. Bytes of a direct buffer are read in chunks, and
+     * the position of the buffer is advanced as they are read.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     */
+    public Utf8JsonParser(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) {
+        this(null, buffer.hasArray() ? null : buffer, mode);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            this.buff = buffer.array();
+            this.pos = offset;
+            this.limit = offset + buffer.remaining();
+            this.buffOffset = -offset;
+        } else {
+            this.buff = new byte[Math.min(BUFFER_SIZE, Math.max(buffer.remaining(), 1))];
+        }
+    }
+
+    public Utf8JsonParser(InputStream in, JsonUtils.NonStringValueProcessingMode mode) {
+        this(in, null, mode);
+        this.buff = new byte[BUFFER_SIZE];
+    }
+
+    private Utf8JsonParser(InputStream in, ByteBuffer source, JsonUtils.NonStringValueProcessingMode mode) {
+        this.in = in;
+        this.source = source;
+        this.mode = mode;
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+        } else {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON;
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes bytes which contain the JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return new Utf8JsonParser(bytes, mode).readDocument();
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer and returns a json.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return new Utf8JsonParser(buffer, mode).readDocument();
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents of the given {@link InputStream} and returns a json.
+     *
+     * @param in   input stream which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream in, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return new Utf8JsonParser(in, mode).readDocument();
+    }
+
+    /**
+     * Advances to the next event of the document.
+     *
+     * @return the next event, or {@link Event#END_DOCUMENT} once the whole document is read
+     * @throws BError for any parsing error
+     */
+    public Event next() throws BError {
+        try {
+            return nextEvent();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (JsonParserException e) {
+            throw createParserError(e);
+        }
+    }
+
+    /**
+     * Returns the last event returned by {@link #next()}.
+     *
+     * @return the current event
+     */
+    public Event currentEvent() {
+        return this.event;
+    }
+
+    /**
+     * Returns the field name of the current {@link Event#FIELD_NAME} event.
+     *
+     * @return the current field name
+     */
+    public BString currentFieldName() {
+        return this.fieldName;
+    }
+
+    /**
+     * Returns the number of objects and arrays enclosing the current position.
+     *
+     * @return the current nesting depth
+     */
+    public int depth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the value at the current position. For a {@link Event#VALUE} event this is the scalar value itself. For
+     * a {@link Event#START_OBJECT} or {@link Event#START_ARRAY} event, the whole object or array is read and the
+     * parser is left at the matching end event.
+     *
+     * @return the JSON value at the current position
+     * @throws BError for any parsing error
+     */
+    public Object readValue() throws BError {
+        try {
+            return readCurrentValue();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (JsonParserException e) {
+            throw createParserError(e);
+        }
+    }
+
+    /**
+     * Skips the object or array which starts at the current position, without creating any values. The parser is
+     * left at the matching end event. Does nothing for other events.
+     *
+     * @throws BError for any parsing error
+     */
+    public void skipValue() throws BError {
+        if (this.event != Event.START_OBJECT && this.event != Event.START_ARRAY) {
+            return;
+        }
+        int targetDepth = this.depth - 1;
+        while (this.depth > targetDepth) {
+            next();
+        }
+    }
+
+    private Object readDocument() throws BError {
+        try {
+            readValueStart(peekNonWhitespace(), true);
+            Object result = readCurrentValue();
+            if (nextEvent() != Event.END_DOCUMENT) {
+                throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+            }
+            return result;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (JsonParserException e) {
+            throw createParserError(e);
+        }
+    }
+
+    private BError createParserError(JsonParserException e) {
+        long column = this.buffOffset + this.pos - this.lineStart + 1;
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
+                                                                      "column: " + column));
+    }
+
+    private Event nextEvent() throws IOException, JsonParserException {
+        int b = peekNonWhitespace();
+        switch (this.expect) {
+            case EXPECT_VALUE:
+                return readValueStart(b, this.depth == 0 && this.event == null);
+            case EXPECT_FIRST_FIELD:
+                if (b == '}') {
+                    this.pos++;
+                    return endContainer(Event.END_OBJECT);
+                }
+                if (b != '"' && b != '\'') {
+                    throwExpected("\"", "}");
+                }
+                return readFieldName(b);
+            case EXPECT_FIRST_ELEMENT:
+                if (b == ']') {
+                    this.pos++;
+                    return endContainer(Event.END_ARRAY);
+                }
+                return readValueStart(b, false);
+            case EXPECT_SEPARATOR:
+                if (this.containers[this.depth - 1] == IN_OBJECT) {
+                    if (b == '}') {
+                        this.pos++;
+                        return endContainer(Event.END_OBJECT);
+                    }
+                    if (b != ',') {
+                        throwExpected(",", "}");
+                    }
+                    this.pos++;
+                    b = peekNonWhitespace();
+                    if (b != '"' && b != '\'') {
+                        throwExpected("\"");
+                    }
+                    return readFieldName(b);
+                }
+                if (b == ']') {
+                    this.pos++;
+                    return endContainer(Event.END_ARRAY);
+                }
+                if (b != ',') {
+                    throwExpected(",", "]");
+                }
+                this.pos++;
+                return readValueStart(peekNonWhitespace(), false);
+            case EXPECT_DOC_END:
+                if (b != EOF) {
+                    throw new JsonParserException("JSON document has already ended");
+                }
+                this.expect = DONE;
+                return setEvent(Event.END_DOCUMENT);
+            default:
+                return setEvent(Event.END_DOCUMENT);
+        }
+    }
+
+    private Event readValueStart(int b, boolean documentStart) throws IOException, JsonParserException {
+        switch (b) {
+            case '{':
+                this.pos++;
+                pushContainer(IN_OBJECT);
+                this.expect = EXPECT_FIRST_FIELD;
+                return setEvent(Event.START_OBJECT);
+            case '[':
+                this.pos++;
+                pushContainer(IN_ARRAY);
+                this.expect = EXPECT_FIRST_ELEMENT;
+                return setEvent(Event.START_ARRAY);
+            case '"':
+            case '\'':
+                this.pos++;
+                this.value = StringUtils.fromString(readString((byte) b));
+                break;
+            case EOF:
+                throw new JsonParserException(documentStart ? "empty JSON document" :
+                                                      "unexpected end of JSON document");
+            default:
+                this.value = readNonStringValue();
+                break;
+        }
+        this.expect = this.depth == 0 ? EXPECT_DOC_END : EXPECT_SEPARATOR;
+        return setEvent(Event.VALUE);
+    }
+
+    private Event readFieldName(int quote) throws IOException, JsonParserException {
+        this.pos++;
+        this.fieldName = StringUtils.fromString(readString((byte) quote));
+        if (peekNonWhitespace() != ':') {
+            throwExpected(":");
+        }
+        this.pos++;
+        this.expect = EXPECT_VALUE;
+        return setEvent(Event.FIELD_NAME);
+    }
+
+    private Event endContainer(Event endEvent) {
+        this.depth--;
+        this.expect = this.depth == 0 ? EXPECT_DOC_END : EXPECT_SEPARATOR;
+        return setEvent(endEvent);
+    }
+
+    private Event setEvent(Event event) {
+        this.event = event;
+        return event;
+    }
+
+    private void pushContainer(byte container) {
+        if (this.depth == this.containers.length) {
+            this.containers = Arrays.copyOf(this.containers, this.depth * 2);
+        }
+        this.containers[this.depth++] = container;
+    }
+
+    private Object readCurrentValue() throws IOException, JsonParserException {
+        if (this.event == Event.VALUE) {
+            return this.value;
+        }
+        if (this.event != Event.START_OBJECT && this.event != Event.START_ARRAY) {
+            throw new IllegalStateException("no value at the current position: " + this.event);
+        }
+
+        // Containers are tracked in a local stack so that deeply nested documents do not exhaust the Java stack.
+        Object root = createContainer(this.event);
+        Object[] nodes = new Object[8];
+        BString[] keys = new BString[8];
+        nodes[0] = root;
+        int top = 0;
+        while (top >= 0) {
+            switch (nextEvent()) {
+                case FIELD_NAME:
+                    keys[top] = this.fieldName;
+                    break;
+                case VALUE:
+                    addToContainer(nodes[top], keys[top], this.value);
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    Object container = createContainer(this.event);
+                    addToContainer(nodes[top], keys[top], container);
+                    if (++top == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, top * 2);
+                        keys = Arrays.copyOf(keys, top * 2);
+                    }
+                    nodes[top] = container;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    nodes[top--] = null;
+                    break;
+                default:
+                    throw new JsonParserException("unexpected end of JSON document");
+            }
+        }
+        return root;
+    }
+
+    private Object createContainer(Event startEvent) {
+        if (startEvent == Event.START_OBJECT) {
+            return new MapValueImpl<>(new BMapType(this.definedJsonType));
+        }
+        return new ArrayValueImpl(new BArrayType(this.definedJsonType));
+    }
+
+    private static void addToContainer(Object container, BString key, Object value) {
+        if (container instanceof MapValueImpl) {
+            ((MapValueImpl<BString, Object>) container).put(key, value);
+        } else {
+            ((ArrayValue) container).append(value);
+        }
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                return EOF;
+            }
+            byte b = this.buff[this.pos];
+            if (b == ' ' || b == '\t' || b == '\r') {
+                this.pos++;
+            } else if (b == '\n') {
+                this.pos++;
+                newLine();
+            } else {
+                return b;
+            }
+        }
+    }
+
+    private void newLine() {
+        this.line++;
+        this.lineStart = this.buffOffset + this.pos;
+    }
+
+    /**
+     * Refills the buffer once all of its bytes are consumed.
+     *
+     * @return false if there are no more bytes in the input
+     */
+    private boolean fill() throws IOException {
+        if (this.in == null && this.source == null) {
+            return false;
+        }
+        this.buffOffset += this.limit;
+        this.pos = 0;
+        this.limit = 0;
+        int count;
+        if (this.source != null) {
+            count = Math.min(this.buff.length, this.source.remaining());
+            this.source.get(this.buff, 0, count);
+        } else {
+            do {
+                count = this.in.read(this.buff, 0, this.buff.length);
+            } while (count == 0);
+        }
+        if (count <= 0) {
+            return false;
+        }
+        this.limit = count;
+        return true;
+    }
+
+    private String readString(byte quote) throws IOException, JsonParserException {
+        // Fast path: the whole string is in the buffer and has no escape sequences or line breaks
+        boolean ascii = true;
+        int start = this.pos;
+        int i = start;
+        for (; i < this.limit; i++) {
+            byte b = this.buff[i];
+            if (b == quote) {
+                this.pos = i + 1;
+                return new String(this.buff, start, i - start,
+                                  ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            } else if (b == '\\' || b == '\n') {
+                break;
+            } else if (b < 0) {
+                ascii = false;
+            }
+        }
+
+        this.scratchLength = 0;
+        appendScratch(this.buff, start, i - start);
+        this.pos = i;
+        return readStringSlow(quote);
+    }
+
+    private String readStringSlow(byte quote) throws IOException, JsonParserException {
+        StringBuilder builder = null;
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            byte b = this.buff[this.pos];
+            if (b == quote) {
+                this.pos++;
+                break;
+            }
+            if (b == '\\') {
+                // Escapes are single byte characters, so the bytes collected so far never end in the middle of a
+                // multi-byte character.
+                if (builder == null) {
+                    builder = new StringBuilder(this.scratchLength + 16);
+                }
+                builder.append(new String(this.scratch, 0, this.scratchLength, StandardCharsets.UTF_8));
+                this.scratchLength = 0;
+                this.pos++;
+                builder.append(readEscapedCharacter());
+                continue;
+            }
+            this.pos++;
+            if (b == '\n') {
+                newLine();
+            }
+            appendScratch(b);
+        }
+        String tail = new String(this.scratch, 0, this.scratchLength, StandardCharsets.UTF_8);
+        return builder == null ? tail : builder.append(tail).toString();
+    }
+
+    private char readEscapedCharacter() throws IOException, JsonParserException {
+        switch (readByte()) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codePoint = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(readByte(), 16);
+                    if (digit < 0) {
+                        this.pos--;
+                        throwExpected("hexadecimal value of an unicode character");
+                    }
+                    codePoint = (codePoint << 4) | digit;
+                }
+                return (char) codePoint;
+            default:
+                this.pos--;
+                throwExpected("escaped characters");
+                return 0;
+        }
+    }
+
+    private int readByte() throws IOException, JsonParserException {
+        if (this.pos == this.limit && !fill()) {
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+        return this.buff[this.pos++];
+    }
+
+    private Object readNonStringValue() throws IOException, JsonParserException {
+        int start = this.pos;
+        int i = start;
+        while (i < this.limit && !isDelimiter(this.buff[i])) {
+            i++;
+        }
+        if (i < this.limit) {
+            this.pos = i;
+            if (i == start) {
+                // A delimiter where a value is expected, e.g. "[1,]"
+                this.pos++;
+                throw new JsonParserException("unrecognized token '" + (char) this.buff[start] + "'");
+            }
+            return processNonStringValue(this.buff, start, i - start);
+        }
+
+        // The token continues past the end of the buffer
+        this.scratchLength = 0;
+        appendScratch(this.buff, start, i - start);
+        this.pos = i;
+        while (this.pos < this.limit || fill()) {
+            byte b = this.buff[this.pos];
+            if (isDelimiter(b)) {
+                break;
+            }
+            appendScratch(b);
+            this.pos++;
+        }
+        return processNonStringValue(this.scratch, 0, this.scratchLength);
+    }
+
+    private static boolean isDelimiter(byte b) {
+        switch (b) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case ',':
+            case ':':
+            case '}':
+            case ']':
+            case '{':
+            case '[':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private Object processNonStringValue(byte[] bytes, int offset, int length) throws JsonParserException {
+        if (this.mode != FROM_JSON_FLOAT_STRING && this.mode != FROM_JSON_DECIMAL_STRING) {
+            // Fast path for integers which are known to fit in a long
+            int i = offset;
+            int end = offset + length;
+            boolean negative = bytes[i] == '-';
+            if (negative) {
+                i++;
+            }
+            if (i < end && end - i <= 18) {
+                long result = 0;
+                for (; i < end; i++) {
+                    int digit = bytes[i] - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    result = result * 10 + digit;
+                }
+                if (i == end) {
+                    if (negative) {
+                        return result == 0 ? (Object) (-0.0d) : (Object) (-result);
+                    }
+                    return result;
+                }
+            }
+        }
+
+        String str = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        if (str.indexOf('.') < 0) {
+            switch (str) {
+                case "true":
+                    return Boolean.TRUE;
+                case "false":
+                    return Boolean.FALSE;
+                case "null":
+                    return null;
+                default:
+                    break;
+            }
+        }
+        try {
+            switch (this.mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if ('-' == str.charAt(0) && 0 == Double.parseDouble(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    return str.indexOf('.') >= 0 ? new DecimalValue(str) : (Object) Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private void appendScratch(byte b) {
+        if (this.scratchLength == this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, this.scratchLength * 2);
+        }
+        this.scratch[this.scratchLength++] = b;
+    }
+
+    private void appendScratch(byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        if (this.scratchLength + length > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(this.scratch.length * 2, this.scratchLength + length));
+        }
+        System.arraycopy(bytes, offset, this.scratch, this.scratchLength, length);
+        this.scratchLength += length;
+    }
+
+    private static void throwExpected(String... chars) throws JsonParserException {
+        throw new JsonParserException("expected " + String.join(" or ", chars));
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = -3170563471349296436L;
+
+        public JsonParserException(String msg) {
+            super(msg);
+        }
+
+    }
+}
@@ -49,7 +49,9 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -139,6 +141,56 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create an iterator which parses the elements of the given path from a reader one at a time.
+     *
+     * @param reader XML reader
+     * @param path names of the elements from the root element to the elements which should be parsed
+     * @return Iterator of the parsed elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, List<String> path) {
+        return new Iterator<BXml>() {
+            // The reader is not read until the first element is requested
+            private XmlTreeBuilder xmlTreeBuilder;
+            private BXml nextElement;
+            private boolean ended;
+
+            @Override
+            public boolean hasNext() {
+                if (nextElement == null && !ended) {
+                    nextElement = parseNextElement();
+                    ended = nextElement == null;
+                }
+                return nextElement != null;
+            }
+
+            @Override
+            public BXml next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BXml element = nextElement;
+                nextElement = null;
+                return element;
+            }
+
+            private BXml parseNextElement() {
+                try {
+                    if (xmlTreeBuilder == null) {
+                        xmlTreeBuilder = new XmlTreeBuilder(reader);
+                    }
+                    return xmlTreeBuilder.parseNextElement(path);
+                } catch (BError e) {
+                    ended = true;
+                    throw e;
+                } catch (Throwable e) {
+                    ended = true;
+                    throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+                }
+            }
+        };
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
@@ -73,6 +73,8 @@ public class XmlTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    // names of the elements which are open when elements are parsed one at a time
+    private List<String> openElements;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
@@ -136,6 +138,101 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Parses the next element of the given path, skipping the content before it.
+     * <p>
+     * Only the returned element is built, hence elements could be parsed one at a time with a memory footprint of
+     * the largest element rather than the whole document.
+     *
+     * @param path names of the elements from the root element to the elements which should be parsed, or an empty
+     *             list to parse the child elements of the root element
+     * @return the next element of the path, or null if there are no more elements
+     */
+    public BXml parseNextElement(List<String> path) {
+        if (openElements == null) {
+            openElements = new ArrayList<>();
+        }
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        String localName = xmlStreamReader.getLocalName();
+                        if (isElementOfPath(path, localName)) {
+                            return buildElement();
+                        }
+                        openElements.add(localName);
+                        break;
+                    case END_ELEMENT:
+                        openElements.remove(openElements.size() - 1);
+                        break;
+                    case END_DOCUMENT:
+                        return null;
+                    default:
+                        // content outside the elements of the path is skipped
+                        break;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        return null;
+    }
+
+    private boolean isElementOfPath(List<String> path, String localName) {
+        if (path.isEmpty()) {
+            return openElements.size() == 1;
+        }
+        int depth = openElements.size();
+        if (depth != path.size() - 1 || !path.get(depth).equals(localName)) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (!path.get(i).equals(openElements.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the element which starts at the current position of the reader, reading up to its end.
+     */
+    private BXml buildElement() throws XMLStreamException {
+        List<BXml> siblings = new ArrayList<>();
+        siblingDeque.clear();
+        seqDeque.clear();
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+
+        readElement(xmlStreamReader);
+        int depth = 1;
+        while (depth > 0) {
+            switch (xmlStreamReader.next()) {
+                case START_ELEMENT:
+                    readElement(xmlStreamReader);
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    endElement();
+                    depth--;
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return siblings.get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -37,9 +37,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.WeakHashMap;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -63,7 +63,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -71,14 +71,48 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_QUEUE system variable to either "global" or
+     * "work-stealing". Default is "global".
+     */
+    private static String queueConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_QUEUE_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_BACKEND system variable to either "platform" or
+     * "virtual". Default is "platform".
+     */
+    private static String backendConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_BACKEND_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    /**
+     * Executes each strand group on a new virtual thread, so that strands blocked on extern calls do not hold a
+     * scheduler thread. This is null unless the "virtual" backend is selected and supported by the running JDK.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
+    /**
+     * Number of threads taking groups from the runnable list. In the virtual thread backend a single thread hands
+     * over the groups to the virtual thread executor.
+     */
+    private final int schedulerThreads;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static final String VIRTUAL_THREADS_NAME = "virtual";
+
+    private final SchedulerMetrics metrics;
+
+    /**
+     * Counters shared by all the virtual threads executing strand groups. This is null unless the virtual thread
+     * backend is used.
+     */
+    private final SchedulerMetrics.WorkerMetrics virtualThreadMetrics;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private Map<BObject, ItemGroup> objectGroups = Collections.synchronizedMap(new WeakHashMap<>());
@@ -95,15 +129,80 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(queueConf, numThreads);
+        this.virtualThreadExecutor = createVirtualThreadExecutor(backendConf);
+        this.schedulerThreads = virtualThreadExecutor == null ? numThreads : 1;
+        this.metrics = new SchedulerMetrics(totalStrands::get, runnableList::size, schedulerThreads);
+        this.virtualThreadMetrics = virtualThreadExecutor == null ? null : metrics.addWorker(VIRTUAL_THREADS_NAME);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, queueConf);
+    }
+
+    public Scheduler(int numThreads, boolean immortal, String queueType) {
+        this(numThreads, immortal, queueType, backendConf);
+    }
+
+    public Scheduler(int numThreads, boolean immortal, String queueType, String backend) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(queueType, numThreads);
+        this.virtualThreadExecutor = createVirtualThreadExecutor(backend);
+        this.schedulerThreads = virtualThreadExecutor == null ? numThreads : 1;
+        this.metrics = new SchedulerMetrics(totalStrands::get, runnableList::size, schedulerThreads);
+        this.virtualThreadMetrics = virtualThreadExecutor == null ? null : metrics.addWorker(VIRTUAL_THREADS_NAME);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private RunQueue createRunQueue(String queueType, int numThreads) {
+        if (queueType == null || RuntimeConstants.SCHEDULER_QUEUE_GLOBAL.equals(queueType)) {
+            return new GlobalRunQueue();
+        }
+        if (RuntimeConstants.SCHEDULER_QUEUE_WORK_STEALING.equals(queueType)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + queueType + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_QUEUE_ENV_VAR + ", using '" +
+                            RuntimeConstants.SCHEDULER_QUEUE_GLOBAL + "'");
+        return new GlobalRunQueue();
+    }
+
+    private ExecutorService createVirtualThreadExecutor(String backend) {
+        if (backend == null || RuntimeConstants.SCHEDULER_BACKEND_PLATFORM.equals(backend)) {
+            return null;
+        }
+        if (!RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL.equals(backend)) {
+            // Log and continue with default
+            err.println("ballerina: invalid value '" + backend + "' for system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_BACKEND_ENV_VAR + ", using '" +
+                                RuntimeConstants.SCHEDULER_BACKEND_PLATFORM + "'");
+            return null;
+        }
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            err.println("ballerina: virtual threads are not supported by the Java runtime '" +
+                                System.getProperty("java.version") + "', using '" +
+                                RuntimeConstants.SCHEDULER_BACKEND_PLATFORM + "' scheduler backend");
+        }
+        return executor;
+    }
+
+    public SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Checks whether the strands are executed on virtual threads.
+     *
+     * @return true if the virtual thread backend is in use, false if the scheduler threads execute the strands
+     */
+    public boolean isVirtualThreadBackend() {
+        return virtualThreadExecutor != null;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -274,8 +373,8 @@ public class Scheduler {
     }
 
     public void start() {
-        this.mainBlockSem = new Semaphore(-(numThreads - 1));
-        for (int i = 0; i < numThreads - 1; i++) {
+        this.mainBlockSem = new Semaphore(-(schedulerThreads - 1));
+        for (int i = 0; i < schedulerThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
         }
         this.runSafely();
@@ -301,8 +400,11 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        SchedulerMetrics.WorkerMetrics workerMetrics = null;
+        if (virtualThreadExecutor == null) {
+            workerMetrics = metrics.addWorker(Thread.currentThread().getName());
+        }
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -311,40 +413,86 @@ public class Scheduler {
             }
 
             if (group == POISON_PILL) {
+                if (virtualThreadExecutor != null) {
+                    awaitVirtualThreads();
+                }
                 this.mainBlockSem.release();
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.execute(() -> runGroupSafely(group));
+            } else {
+                runGroup(group, workerMetrics);
+            }
+        }
+    }
 
-                item = group.get();
+    /**
+     * Waits until the virtual threads finish executing their groups, so that the scheduler returns only after all the
+     * strands are done.
+     */
+    private void awaitVirtualThreads() {
+        virtualThreadExecutor.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (virtualThreadExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group, virtualThreadMetrics);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+    /**
+     * Executes the items of the given group until none of them are runnable.
+     */
+    private void runGroup(ItemGroup group, SchedulerMetrics.WorkerMetrics workerMetrics) {
+        long startTime = System.nanoTime();
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
+            } finally {
+                strandHolder.get().strand = null;
+            }
+            postProcess(item, result, panic);
+            if (group.items.empty()) {
+                group.scheduled.set(false);
             }
         }
+        workerMetrics.addBusyTime(System.nanoTime() - startTime);
     }
 
     /**
@@ -358,12 +506,16 @@ public class Scheduler {
                 if (item.getState().getStatus() == State.YIELD.getStatus()) {
                     reschedule(item);
                     item.future.strand.unlock();
+                    metrics.strandYielded();
                     break;
                 }
                 item.parked = true;
+                item.parkedTime = System.nanoTime();
                 item.future.strand.unlock();
+                metrics.strandParked();
                 break;
             case BLOCK_ON_AND_YIELD:
+                metrics.strandWaiting();
                 WaitContext waitContext = item.future.strand.waitContext;
                 waitContext.lock();
                 waitContext.intermediate = false;
@@ -375,6 +527,7 @@ public class Scheduler {
                 break;
             case YIELD:
                 reschedule(item);
+                metrics.strandYielded();
                 break;
             case RUNNABLE:
                 item.future.result = result;
@@ -414,6 +567,7 @@ public class Scheduler {
                 }
 
                 cleanUp(justCompleted);
+                metrics.strandCompleted();
 
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
@@ -447,6 +601,7 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            metrics.strandUnparked(System.nanoTime() - strand.schedulerItem.parkedTime);
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -519,7 +674,7 @@ public class Scheduler {
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        for (int i = 0; i < schedulerThreads; i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -575,6 +730,10 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    /**
+     * Time the item was parked at, in nanoseconds. Valid only while the item is parked.
+     */
+    long parkedTime;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
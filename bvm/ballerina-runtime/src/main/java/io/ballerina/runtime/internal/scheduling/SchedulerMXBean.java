@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link Scheduler}, which exposes the {@link SchedulerMetrics} through JMX.
+ *
+ * @since 2.0.0
+ */
+public interface SchedulerMXBean {
+
+    /**
+     * @return number of strands which are scheduled but not completed yet.
+     */
+    int getActiveStrandCount();
+
+    /**
+     * @return number of strand groups waiting in the runnable list to be picked by a scheduler thread.
+     */
+    int getRunnableGroupCount();
+
+    /**
+     * @return number of threads taking strand groups from the runnable list.
+     */
+    int getThreadCount();
+
+    /**
+     * @return number of strands scheduled since the scheduler was created.
+     */
+    long getScheduledStrandCount();
+
+    /**
+     * @return number of strands completed since the scheduler was created.
+     */
+    long getCompletedStrandCount();
+
+    /**
+     * @return number of times strands yielded and were put back to the runnable list.
+     */
+    long getYieldCount();
+
+    /**
+     * @return number of times strands were parked in the {@link State#BLOCK_AND_YIELD} state.
+     */
+    long getParkCount();
+
+    /**
+     * @return number of times strands yielded to wait on other strands.
+     */
+    long getWaitCount();
+
+    /**
+     * @return total time in nanoseconds strands stayed parked, before they were unblocked.
+     */
+    long getParkedTimeNanos();
+
+    /**
+     * @return maximum time in nanoseconds a strand stayed parked, before it was unblocked.
+     */
+    long getMaxParkedTimeNanos();
+
+    /**
+     * @return upper bounds in nanoseconds of the buckets of {@link #getParkedTimeHistogram()}. The last bucket has no
+     * upper bound.
+     */
+    long[] getParkedTimeHistogramBounds();
+
+    /**
+     * @return number of times strands stayed parked for a duration within each bucket.
+     */
+    long[] getParkedTimeHistogram();
+
+    /**
+     * @return time in nanoseconds each scheduler thread spent executing strands, by the name of the thread.
+     */
+    Map<String, Long> getThreadBusyTimeNanos();
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the {@link Scheduler}, such as the number of strands waiting to be executed, the time scheduler threads
+ * are busy and how long strands stay parked.
+ * <p>
+ * Counters are always updated, with {@link LongAdder}s so that scheduler threads do not contend on them. They are
+ * published to a {@link MetricRegistry} and to JMX only once metrics are enabled, as polled gauges which are read
+ * when the metrics are reported. The parked time histogram is published to the registry as a gauge per bucket,
+ * with the cumulative count of the bucket.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics implements SchedulerMXBean {
+
+    private static final String OBJECT_NAME = "io.ballerina.runtime:type=Scheduler";
+    private static final String METRIC_PREFIX = "scheduler_";
+    private static final String THREAD_TAG = "thread";
+    private static final String BUCKET_BOUND_TAG = "le";
+    private static final String INFINITE_BOUND = "+Inf";
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long[] PARKED_TIME_BOUNDS = {
+            TimeUnit.MICROSECONDS.toNanos(1), TimeUnit.MICROSECONDS.toNanos(10), TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(10)
+    };
+
+    private final PrintStream err = System.err;
+
+    private final IntSupplier activeStrands;
+    private final IntSupplier runnableGroups;
+    private final int threadCount;
+
+    private final LongAdder completedStrands = new LongAdder();
+    private final LongAdder yields = new LongAdder();
+    private final LongAdder parks = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder parkedTime = new LongAdder();
+    private final AtomicLong maxParkedTime = new AtomicLong();
+    private final LongAdder[] parkedTimeHistogram = new LongAdder[PARKED_TIME_BOUNDS.length + 1];
+
+    private final List<WorkerMetrics> workers = new CopyOnWriteArrayList<>();
+
+    private MetricRegistry metricRegistry;
+
+    SchedulerMetrics(IntSupplier activeStrands, IntSupplier runnableGroups, int threadCount) {
+        this.activeStrands = activeStrands;
+        this.runnableGroups = runnableGroups;
+        this.threadCount = threadCount;
+        for (int i = 0; i < parkedTimeHistogram.length; i++) {
+            parkedTimeHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Publishes the metrics to the given registry and to the platform MBean server. Metrics are published only once,
+     * hence subsequent calls are ignored. Besides the counters, the registry gets a gauge for each bucket of the
+     * parked time histogram, tagged with the upper bound of the bucket in seconds.
+     *
+     * @param metricRegistry registry which the metrics would be registered to
+     */
+    public synchronized void register(MetricRegistry metricRegistry) {
+        if (this.metricRegistry != null) {
+            return;
+        }
+        this.metricRegistry = metricRegistry;
+        registerGauge("active_strands", "Strands which are scheduled but not completed",
+                      SchedulerMetrics::getActiveStrandCount);
+        registerGauge("runnable_groups", "Strand groups waiting to be executed",
+                      SchedulerMetrics::getRunnableGroupCount);
+        registerGauge("threads", "Scheduler threads", SchedulerMetrics::getThreadCount);
+        registerGauge("strands_scheduled_total", "Strands scheduled",
+                      SchedulerMetrics::getScheduledStrandCount);
+        registerGauge("strands_completed_total", "Strands completed",
+                      SchedulerMetrics::getCompletedStrandCount);
+        registerGauge("yields_total", "Strands yielded", SchedulerMetrics::getYieldCount);
+        registerGauge("parks_total", "Strands parked until they are unblocked", SchedulerMetrics::getParkCount);
+        registerGauge("waits_total", "Strands yielded to wait on other strands", SchedulerMetrics::getWaitCount);
+        registerGauge("parked_time_seconds_total", "Time strands stayed parked",
+                      metrics -> metrics.getParkedTimeNanos() / NANOS_PER_SECOND);
+        registerGauge("parked_time_max_seconds", "Maximum time a strand stayed parked",
+                      metrics -> metrics.getMaxParkedTimeNanos() / NANOS_PER_SECOND);
+        registerParkedTimeHistogram();
+        for (WorkerMetrics worker : workers) {
+            registerWorker(worker);
+        }
+        registerMBean();
+    }
+
+    private void registerGauge(String name, String description, ToDoubleFunction<SchedulerMetrics> valueFunction) {
+        PolledGauge.builder(METRIC_PREFIX + name, this, valueFunction)
+                .description(description)
+                .register(metricRegistry);
+    }
+
+    private void registerParkedTimeHistogram() {
+        // As in a Prometheus histogram, each bucket counts the strands parked for up to the bound of the bucket
+        for (int i = 0; i <= PARKED_TIME_BOUNDS.length; i++) {
+            int bucket = i;
+            String bound = bucket < PARKED_TIME_BOUNDS.length ?
+                    BigDecimal.valueOf(PARKED_TIME_BOUNDS[bucket], 9).stripTrailingZeros().toPlainString() :
+                    INFINITE_BOUND;
+            PolledGauge.builder(METRIC_PREFIX + "parked_time_seconds_bucket", this,
+                                metrics -> metrics.getCumulativeParkedCount(bucket))
+                    .description("Strands unparked within the time of the bucket")
+                    .tag(BUCKET_BOUND_TAG, bound)
+                    .register(metricRegistry);
+        }
+    }
+
+    private long getCumulativeParkedCount(int bucket) {
+        long count = 0;
+        for (int i = 0; i <= bucket; i++) {
+            count += parkedTimeHistogram[i].sum();
+        }
+        return count;
+    }
+
+    private void registerWorker(WorkerMetrics worker) {
+        PolledGauge.builder(METRIC_PREFIX + "busy_time_seconds_total", worker,
+                            w -> w.busyTime.sum() / NANOS_PER_SECOND)
+                .description("Time a scheduler thread spent executing strands")
+                .tag(THREAD_TAG, worker.name)
+                .register(metricRegistry);
+    }
+
+    private void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            // The scheduler of a program which ran earlier in the same JVM is replaced.
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (JMException e) {
+            // Log and continue, since metrics are still published to the registry
+            err.println("ballerina: failed to register scheduler metrics to JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the counters of a thread which executes strands.
+     *
+     * @param name name of the thread
+     * @return counters of the thread
+     */
+    synchronized WorkerMetrics addWorker(String name) {
+        WorkerMetrics worker = new WorkerMetrics(name);
+        workers.add(worker);
+        if (metricRegistry != null) {
+            registerWorker(worker);
+        }
+        return worker;
+    }
+
+    void strandCompleted() {
+        completedStrands.increment();
+    }
+
+    void strandYielded() {
+        yields.increment();
+    }
+
+    void strandParked() {
+        parks.increment();
+    }
+
+    void strandWaiting() {
+        waits.increment();
+    }
+
+    /**
+     * Records the time a strand stayed parked, when it is unblocked.
+     *
+     * @param duration time in nanoseconds
+     */
+    void strandUnparked(long duration) {
+        parkedTime.add(duration);
+        if (duration > maxParkedTime.get()) {
+            maxParkedTime.accumulateAndGet(duration, Math::max);
+        }
+        int bucket = 0;
+        while (bucket < PARKED_TIME_BOUNDS.length && duration > PARKED_TIME_BOUNDS[bucket]) {
+            bucket++;
+        }
+        parkedTimeHistogram[bucket].increment();
+    }
+
+    @Override
+    public int getActiveStrandCount() {
+        return activeStrands.getAsInt();
+    }
+
+    @Override
+    public int getRunnableGroupCount() {
+        return runnableGroups.getAsInt();
+    }
+
+    @Override
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @Override
+    public long getScheduledStrandCount() {
+        return completedStrands.sum() + activeStrands.getAsInt();
+    }
+
+    @Override
+    public long getCompletedStrandCount() {
+        return completedStrands.sum();
+    }
+
+    @Override
+    public long getYieldCount() {
+        return yields.sum();
+    }
+
+    @Override
+    public long getParkCount() {
+        return parks.sum();
+    }
+
+    @Override
+    public long getWaitCount() {
+        return waits.sum();
+    }
+
+    @Override
+    public long getParkedTimeNanos() {
+        return parkedTime.sum();
+    }
+
+    @Override
+    public long getMaxParkedTimeNanos() {
+        return maxParkedTime.get();
+    }
+
+    @Override
+    public long[] getParkedTimeHistogramBounds() {
+        return PARKED_TIME_BOUNDS.clone();
+    }
+
+    @Override
+    public long[] getParkedTimeHistogram() {
+        long[] histogram = new long[parkedTimeHistogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = parkedTimeHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public Map<String, Long> getThreadBusyTimeNanos() {
+        Map<String, Long> busyTimes = new LinkedHashMap<>();
+        for (WorkerMetrics worker : workers) {
+            busyTimes.put(worker.name, worker.busyTime.sum());
+        }
+        return busyTimes;
+    }
+
+    /**
+     * Counters of a thread which executes strands. In the virtual thread backend, the counters are shared by all the
+     * virtual threads.
+     */
+    static class WorkerMetrics {
+
+        private final String name;
+        private final LongAdder busyTime = new LongAdder();
+
+        private WorkerMetrics(String name) {
+            this.name = name;
+        }
+
+        void addBusyTime(long duration) {
+            busyTime.add(duration);
+        }
+    }
+}
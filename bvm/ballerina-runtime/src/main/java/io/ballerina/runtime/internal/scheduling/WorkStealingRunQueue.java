@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} with a deque per scheduler thread.
+ * <p>
+ * Groups added by a scheduler thread (e.g. a strand unblocked by another strand) go to the head of that thread's own
+ * deque, so they are picked up by the same thread. Groups added by other threads and the {@code POISON_PILL}s go to
+ * a shared injection queue. A thread without local work takes from the injection queue and then steals from the tail
+ * of the other threads' deques, before parking.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private static final int NOT_A_WORKER = -1;
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final ThreadLocal<Integer> workerIndex = ThreadLocal.withInitial(() -> NOT_A_WORKER);
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int index = workerIndex.get();
+        if (index == NOT_A_WORKER || group == POISON_PILL) {
+            injectionQueue.add(group);
+        } else {
+            localQueues[index].addFirst(group);
+        }
+        Thread idle = idleWorkers.poll();
+        if (idle != null) {
+            LockSupport.unpark(idle);
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        int index = workerIndex.get();
+        if (index == NOT_A_WORKER) {
+            index = registerWorker();
+        }
+        Thread current = Thread.currentThread();
+        while (true) {
+            ItemGroup group = poll(index);
+            if (group != null) {
+                return group;
+            }
+
+            // Announce before re-checking, so that a concurrent add either sees this thread as idle or gets seen
+            // by the re-check.
+            idleWorkers.add(current);
+            group = poll(index);
+            if (group != null) {
+                idleWorkers.remove(current);
+                return group;
+            }
+            LockSupport.park(this);
+            idleWorkers.remove(current);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (ConcurrentLinkedDeque<ItemGroup> queue : localQueues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    private int registerWorker() {
+        int index = registeredWorkers.getAndIncrement();
+        if (index >= localQueues.length) {
+            throw new IllegalStateException("number of scheduler threads exceeds the configured pool size: " +
+                                                    localQueues.length);
+        }
+        workerIndex.set(index);
+        return index;
+    }
+
+    private ItemGroup poll(int index) {
+        ItemGroup group = localQueues[index].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        int numWorkers = localQueues.length;
+        for (int i = 1; i < numWorkers; i++) {
+            group = localQueues[(index + i) % numWorkers].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
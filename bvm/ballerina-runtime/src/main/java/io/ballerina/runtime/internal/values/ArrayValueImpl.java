@@ -219,6 +219,56 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    /**
+     * Sorts an array of ints, floats, bytes, booleans or strings in place, in the order of `lang.array:sort`
+     * without a key function.
+     *
+     * @param ascending whether to sort in ascending order
+     * @return false if the element type is not one of these types, in which case the array is not modified
+     */
+    public boolean sort(boolean ascending) {
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.BYTE_TAG:
+                break;
+            default:
+                return false;
+        }
+        if (size == 0) {
+            return true;
+        }
+        handleImmutableArrayValue();
+        switch (elementType.getTag()) {
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                PrimitiveArraySorter.sort(bStringValues, size, ascending);
+                break;
+            case TypeTags.FLOAT_TAG:
+                PrimitiveArraySorter.sort(floatValues, size, ascending);
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                PrimitiveArraySorter.sort(booleanValues, size, ascending);
+                break;
+            case TypeTags.BYTE_TAG:
+                PrimitiveArraySorter.sort(byteValues, size, ascending);
+                break;
+            default:
+                PrimitiveArraySorter.sort(intValues, size, ascending);
+                break;
+        }
+        return true;
+    }
+
     public ArrayValueImpl(ArrayType type, long size) {
         this.arrayType = type;
         this.elementType = type.getElementType();
@@ -70,17 +70,38 @@
 
     @Override
     public BString concat(BString str) {
+        if (RopeStringValue.isDeferred(this, str)) {
+            return new RopeStringValue(this, str);
+        }
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            // Surrogate locations are code point indexes, hence the ones of the other string are moved by this length
+            int length = length();
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + length;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(this.value + str.getValue());
+        }
+    }
+
+    /**
+     * Creates the string with the given basic multilingual plane characters followed by this string.
+     *
+     * @param prefix characters to be prepended
+     * @return prepended string
+     */
+    NonBmpStringValue prepend(String prefix) {
+        int[] moved = new int[surrogates.length];
+        for (int i = 0; i < surrogates.length; i++) {
+            moved[i] = surrogates[i] + prefix.length();
         }
+        return new NonBmpStringValue(prefix + this.value, moved);
     }
 
      @Override
@@ -126,33 +147,23 @@
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
+         int index = value.indexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         // The index of the match is in chars, which is converted to the index of the code point
+         return (long) value.codePointCount(0, index);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
+         int index = value.lastIndexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         // The index of the match is in chars, which is converted to the index of the code point
+         return (long) value.codePointCount(0, index);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the backing arrays of {@link ArrayValueImpl} in place, in the order defined by `lang.array:sort`.
+ * <p>
+ * Ints, bytes and booleans which are equal cannot be told apart, so sorting them does not need to be stable. Floats
+ * are sorted the same way, except that the order of +0.0 and -0.0 is restored afterwards, since they are equal in
+ * Ballerina. NaN comes last in both directions. Strings are compared in code point order with a stable sort.
+ *
+ * @since 2.0.0
+ */
+final class PrimitiveArraySorter {
+
+    // Arrays of at least this size are sorted with the parallel sorts of java.util.Arrays.
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private static final Comparator<BString> CODE_POINT_ORDER = PrimitiveArraySorter::compareCodePoints;
+
+    private PrimitiveArraySorter() {
+    }
+
+    static void sort(long[] values, int size, boolean ascending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!ascending) {
+            reverse(values, 0, size);
+        }
+    }
+
+    static void sort(double[] values, int size, boolean ascending) {
+        boolean[] zeroSigns = getZeroSigns(values, size);
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+
+        // NaNs are sorted to the end, and stay there in descending order as well
+        int end = size;
+        while (end > 0 && Double.isNaN(values[end - 1])) {
+            end--;
+        }
+        if (!ascending) {
+            reverse(values, 0, end);
+        }
+
+        if (zeroSigns != null) {
+            int start = 0;
+            while (values[start] != 0) {
+                start++;
+            }
+            for (int i = 0; i < zeroSigns.length; i++) {
+                values[start + i] = zeroSigns[i] ? -0.0d : 0.0d;
+            }
+        }
+    }
+
+    static void sort(byte[] values, int size, boolean ascending) {
+        // Bytes are unsigned in Ballerina, so they are counted by their unsigned value.
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[values[i] & 0xFF]++;
+        }
+        int index = 0;
+        for (int i = 0; i < 256; i++) {
+            int value = ascending ? i : 255 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
+    static void sort(boolean[] values, int size, boolean ascending) {
+        int falseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!values[i]) {
+                falseCount++;
+            }
+        }
+        if (ascending) {
+            Arrays.fill(values, 0, falseCount, false);
+            Arrays.fill(values, falseCount, size, true);
+        } else {
+            Arrays.fill(values, 0, size - falseCount, true);
+            Arrays.fill(values, size - falseCount, size, false);
+        }
+    }
+
+    static void sort(BString[] values, int size, boolean ascending) {
+        Comparator<BString> comparator = ascending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed();
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size, comparator);
+        } else {
+            Arrays.sort(values, 0, size, comparator);
+        }
+    }
+
+    /**
+     * Returns the signs of the zeros in the array in the order they appear, with true for -0.0, or null if there
+     * are no zeros of different signs.
+     */
+    private static boolean[] getZeroSigns(double[] values, int size) {
+        int zeros = 0;
+        int negativeZeros = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeros++;
+                if (Double.doubleToRawLongBits(values[i]) != 0) {
+                    negativeZeros++;
+                }
+            }
+        }
+        if (negativeZeros == 0 || negativeZeros == zeros) {
+            return null;
+        }
+        boolean[] zeroSigns = new boolean[zeros];
+        for (int i = 0, j = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeroSigns[j++] = Double.doubleToRawLongBits(values[i]) != 0;
+            }
+        }
+        return zeroSigns;
+    }
+
+    /**
+     * Compares two strings in code point order, without decoding the code points.
+     */
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar != rhsChar) {
+                // Surrogates come after the chars from U+E000 to U+FFFF in code point order.
+                if (lhsChar >= Character.MIN_SURROGATE && rhsChar >= Character.MIN_SURROGATE) {
+                    return fixUpForCodePointOrder(lhsChar) - fixUpForCodePointOrder(rhsChar);
+                }
+                return lhsChar - rhsChar;
+            }
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    private static int fixUpForCodePointOrder(char c) {
+        return c > Character.MAX_SURROGATE ? c - 0x800 : c + 0x2000;
+    }
+
+    private static void reverse(long[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static void reverse(double[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            double temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BField;
@@ -97,7 +98,10 @@ public class ReadOnlyUtils {
             return immutableType;
         }
 
-        return setImmutableIntersectionType(type, new HashSet<>()).getEffectiveType();
+        Type effectiveType = setImmutableIntersectionType(type, new HashSet<>()).getEffectiveType();
+        // The immutable types are filled in after they are set, and the original types are marked as read-only
+        TypeCheckCache.invalidate();
+        return effectiveType;
     }
 
     public static Type setImmutableTypeAndGetEffectiveType(Type type, Set<Type> unresolvedTypes) {
@@ -107,7 +111,9 @@ public class ReadOnlyUtils {
             return immutableType;
         }
 
-        return setImmutableIntersectionType(type, unresolvedTypes).getEffectiveType();
+        Type effectiveType = setImmutableIntersectionType(type, unresolvedTypes).getEffectiveType();
+        TypeCheckCache.invalidate();
+        return effectiveType;
     }
 
     private static Type getAvailableImmutableType(Type type) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings, without copying the characters of either.
+ * <p>
+ * The characters are copied into a single {@link String} only when the content of the string is needed, e.g. to
+ * get a code point or to compare the string. Hence a string built by concatenating in a loop is copied once instead
+ * of at each concatenation. Once flattened, the concatenated strings are released.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Minimum number of characters of a concatenation which is deferred. Shorter strings are copied right away, since
+     * copying them is cheaper than keeping the two strings.
+     */
+    static final int MIN_ROPE_LENGTH = 64;
+
+    // Strings are immutable and could be shared between strands, hence the concatenated strings are released only
+    // after the flattened string is published.
+    private volatile BString left;
+    private volatile BString right;
+    private volatile StringValue flattened;
+
+    private final int length;
+    private final int charLength;
+    private final boolean nonBmp;
+
+    RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+        this.nonBmp = isNonBmp(left) || isNonBmp(right);
+    }
+
+    /**
+     * Checks whether the concatenation of the given strings should be deferred.
+     *
+     * @param left  string on the left
+     * @param right string on the right
+     * @return true if the concatenation should be created as a rope
+     */
+    static boolean isDeferred(BString left, BString right) {
+        return charLength(left) + charLength(right) >= MIN_ROPE_LENGTH;
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    private static boolean isNonBmp(BString str) {
+        if (str instanceof BmpStringValue) {
+            return false;
+        }
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).nonBmp;
+        }
+        return str instanceof NonBmpStringValue || str.length() != str.getValue().length();
+    }
+
+    private StringValue flatten() {
+        StringValue value = flattened;
+        if (value != null) {
+            return value;
+        }
+
+        // Ropes built in a loop are as deep as the number of iterations, hence they are traversed without recursion
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<BString> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            BString str = pending.pop();
+            if (!(str instanceof RopeStringValue)) {
+                builder.append(str.getValue());
+                continue;
+            }
+            RopeStringValue rope = (RopeStringValue) str;
+            BString ropeLeft = rope.left;
+            BString ropeRight = rope.right;
+            if (ropeLeft == null || ropeRight == null || rope.flattened != null) {
+                builder.append(rope.flattened.getValue());
+                continue;
+            }
+            pending.push(ropeRight);
+            pending.push(ropeLeft);
+        }
+
+        String content = builder.toString();
+        value = nonBmp ? (StringValue) StringUtils.fromString(content) : new BmpStringValue(content);
+        flattened = value;
+        left = null;
+        right = null;
+        return value;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
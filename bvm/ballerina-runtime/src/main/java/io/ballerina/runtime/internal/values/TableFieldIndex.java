@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Secondary index on a field of the rows of a {@link TableValueImpl}.
+ * <p>
+ * Rows are grouped by the hash of the field value. Each group keeps its rows ordered by the insertion sequence number
+ * of the row in the table, so a lookup returns the rows in the same order as iterating the table does.
+ *
+ * @since 2.0.0
+ */
+final class TableFieldIndex {
+
+    private final BString fieldName;
+    private final Map<Long, RowGroup> groups = new HashMap<>();
+
+    TableFieldIndex(BString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    void add(Object row, long sequence) {
+        groups.computeIfAbsent(hashOf(row), hash -> new RowGroup()).add(row, sequence);
+    }
+
+    void remove(Object row, long sequence) {
+        long hash = hashOf(row);
+        RowGroup group = groups.get(hash);
+        if (group == null) {
+            return;
+        }
+        group.remove(sequence);
+        if (group.size == 0) {
+            groups.remove(hash);
+        }
+    }
+
+    /**
+     * Returns the rows of which the indexed field is equal to the given value, in insertion order.
+     */
+    Object[] lookup(Object value) {
+        RowGroup group = groups.get(TableUtils.hash(value, null));
+        if (group == null) {
+            return new Object[0];
+        }
+        List<Object> matches = new ArrayList<>(group.size);
+        for (int i = 0; i < group.size; i++) {
+            Object row = group.rows[i];
+            if (TypeChecker.isEqual(fieldValueOf(row), value)) {
+                matches.add(row);
+            }
+        }
+        return matches.toArray();
+    }
+
+    void clear() {
+        groups.clear();
+    }
+
+    private long hashOf(Object row) {
+        return TableUtils.hash(fieldValueOf(row), null);
+    }
+
+    private Object fieldValueOf(Object row) {
+        return ((MapValue<?, ?>) row).get(fieldName);
+    }
+
+    private static class RowGroup {
+        private Object[] rows = new Object[2];
+        private long[] sequences = new long[2];
+        private int size;
+
+        void add(Object row, long sequence) {
+            if (size == rows.length) {
+                int capacity = size + (size >> 1) + 1;
+                rows = Arrays.copyOf(rows, capacity);
+                sequences = Arrays.copyOf(sequences, capacity);
+            }
+            // New rows have the highest sequence number, only a replaced row has to be put back in its place.
+            int position = size;
+            if (size > 0 && sequences[size - 1] > sequence) {
+                position = -Arrays.binarySearch(sequences, 0, size, sequence) - 1;
+                System.arraycopy(rows, position, rows, position + 1, size - position);
+                System.arraycopy(sequences, position, sequences, position + 1, size - position);
+            }
+            rows[position] = row;
+            sequences[position] = sequence;
+            size++;
+        }
+
+        void remove(long sequence) {
+            int position = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(rows, position + 1, rows, position, size - position - 1);
+            System.arraycopy(sequences, position + 1, sequences, position, size - position - 1);
+            size--;
+            rows[size] = null;
+        }
+    }
+}
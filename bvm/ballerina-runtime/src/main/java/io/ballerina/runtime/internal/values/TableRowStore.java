@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * Row storage of a {@link TableValueImpl}.
+ * <p>
+ * Rows are kept in insertion order in parallel arrays. For tables with a key sequence, rows are also linked into a
+ * hash index made of primitive arrays: {@code buckets} holds the first row of each bucket and {@code nextInBucket}
+ * chains the rows that collide. The hash of each key is cached in {@code hashes}, so a lookup only calls
+ * {@link TypeChecker#isEqual} for rows whose hash matches. Removed rows are left as tombstones and are compacted
+ * away when the row arrays have to grow.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the rows
+ *
+ * @since 2.0.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final int NO_ROW = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final boolean indexed;
+    private Object[] keys;
+    private Object[] values;
+    private long[] hashes;
+    // Insertion sequence numbers, used by iterators to find their position again after a compaction.
+    private long[] sequences;
+    private int[] nextInBucket;
+    private int[] buckets;
+
+    // Number of used rows, including tombstones
+    private int rowCount;
+    private int liveCount;
+    private long nextSequence;
+    private int compactionCount;
+
+    TableRowStore(boolean indexed) {
+        this.indexed = indexed;
+        init();
+    }
+
+    private void init() {
+        keys = new Object[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        hashes = new long[INITIAL_CAPACITY];
+        sequences = new long[INITIAL_CAPACITY];
+        nextInBucket = new int[INITIAL_CAPACITY];
+        buckets = new int[INITIAL_CAPACITY * 2];
+        Arrays.fill(buckets, NO_ROW);
+        rowCount = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Returns the row index of the given key, or a negative value if there is no such row.
+     */
+    int find(Object key, long hash) {
+        int row = buckets[bucketOf(hash, buckets.length)];
+        while (row != NO_ROW) {
+            if (hashes[row] == hash && TypeChecker.isEqual(keys[row], key)) {
+                return row;
+            }
+            row = nextInBucket[row];
+        }
+        return NO_ROW;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key, long hash) {
+        int row = find(key, hash);
+        return row == NO_ROW ? null : (V) values[row];
+    }
+
+    boolean containsKey(Object key, long hash) {
+        return find(key, hash) != NO_ROW;
+    }
+
+    /**
+     * Replaces the row of the given key, or appends a new row if the key is not present.
+     *
+     * @return the replaced row, or null if a new row was appended
+     */
+    @SuppressWarnings("unchecked")
+    V put(K key, long hash, V value) {
+        int row = find(key, hash);
+        if (row != NO_ROW) {
+            V oldValue = (V) values[row];
+            keys[row] = key;
+            values[row] = value;
+            return oldValue;
+        }
+        row = appendRow(key, hash, value);
+        int bucket = bucketOf(hash, buckets.length);
+        nextInBucket[row] = buckets[bucket];
+        buckets[bucket] = row;
+        return null;
+    }
+
+    /**
+     * Appends a row without looking it up in the hash index. Used by tables without a key sequence.
+     */
+    void append(K key, V value) {
+        int row = appendRow(key, 0, value);
+        nextInBucket[row] = NO_ROW;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(Object key, long hash) {
+        int bucket = bucketOf(hash, buckets.length);
+        int previous = NO_ROW;
+        int row = buckets[bucket];
+        while (row != NO_ROW) {
+            if (hashes[row] == hash && TypeChecker.isEqual(keys[row], key)) {
+                if (previous == NO_ROW) {
+                    buckets[bucket] = nextInBucket[row];
+                } else {
+                    nextInBucket[previous] = nextInBucket[row];
+                }
+                V oldValue = (V) values[row];
+                keys[row] = null;
+                values[row] = null;
+                nextInBucket[row] = NO_ROW;
+                liveCount--;
+                return oldValue;
+            }
+            previous = row;
+            row = nextInBucket[row];
+        }
+        return null;
+    }
+
+    void clear() {
+        init();
+        compactionCount++;
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    /**
+     * Returns the index of the first live row at or after the given row index, or {@link #rowLimit()} if there is
+     * none.
+     */
+    int nextLiveRow(int row) {
+        while (row < rowCount && values[row] == null) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the index of the first row which was inserted after the row with the given sequence number.
+     */
+    int rowAfterSequence(long sequence) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int rowLimit() {
+        return rowCount;
+    }
+
+    /**
+     * Returns a counter that changes whenever row indexes are shifted.
+     */
+    int compactionCount() {
+        return compactionCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int row) {
+        return (K) keys[row];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int row) {
+        return (V) values[row];
+    }
+
+    long sequenceAt(int row) {
+        return sequences[row];
+    }
+
+    private int appendRow(K key, long hash, V value) {
+        if (rowCount == values.length) {
+            ensureRowCapacity();
+        }
+        int row = rowCount++;
+        keys[row] = key;
+        values[row] = value;
+        hashes[row] = hash;
+        sequences[row] = nextSequence++;
+        liveCount++;
+        return row;
+    }
+
+    private void ensureRowCapacity() {
+        int capacity = values.length;
+        // Reclaim the tombstones instead of growing, if at least half of the rows are removed ones.
+        if (liveCount > capacity / 2) {
+            capacity = capacity + (capacity >> 1);
+        }
+        Object[] newKeys = new Object[capacity];
+        Object[] newValues = new Object[capacity];
+        long[] newHashes = new long[capacity];
+        long[] newSequences = new long[capacity];
+        int[] newNextInBucket = new int[capacity];
+        int[] newBuckets = new int[Math.max(buckets.length, Integer.highestOneBit(capacity) * 2)];
+        Arrays.fill(newBuckets, NO_ROW);
+
+        int newRow = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (values[row] == null) {
+                continue;
+            }
+            newKeys[newRow] = keys[row];
+            newValues[newRow] = values[row];
+            newHashes[newRow] = hashes[row];
+            newSequences[newRow] = sequences[row];
+            newNextInBucket[newRow] = NO_ROW;
+            newRow++;
+        }
+
+        if (indexed) {
+            for (int row = 0; row < newRow; row++) {
+                int bucket = bucketOf(newHashes[row], newBuckets.length);
+                newNextInBucket[row] = newBuckets[bucket];
+                newBuckets[bucket] = row;
+            }
+        }
+
+        if (newRow != rowCount) {
+            compactionCount++;
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        sequences = newSequences;
+        nextInBucket = newNextInBucket;
+        buckets = newBuckets;
+        rowCount = newRow;
+    }
+
+    private static int bucketOf(long hash, int bucketCount) {
+        int h = (int) (hash ^ (hash >>> 32));
+        h ^= h >>> 16;
+        return h & (bucketCount - 1);
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -40,20 +41,19 @@ import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -74,30 +74,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
+    private List<TableFieldIndex> fieldIndexes;
 
     private final Map<String, Object> nativeData = new HashMap<>();
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rows = new TableRowStore<>(type.getFieldNames() != null);
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -212,23 +202,128 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(rows.size());
+        for (int row = rows.nextLiveRow(0); row < rows.rowLimit(); row = rows.nextLiveRow(row + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(row), rows.valueAt(row)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new RowValues();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
+        if (fieldIndexes != null) {
+            fieldIndexes.forEach(TableFieldIndex::clear);
+        }
+    }
+
+    /**
+     * Adds a secondary index on the given field of the rows. The index is used by query expressions to look up the
+     * rows of which the field is equal to a given value, without iterating the whole table.
+     * <p>
+     * Only readonly fields of type int, string or boolean can be indexed, since the index is not updated when a row
+     * is mutated after it is added to the table. A read-only table cannot be indexed, as it could be shared by strands
+     * which run on other threads.
+     *
+     * @param fieldName name of the field to be indexed
+     */
+    public void addIndex(BString fieldName) {
+        handleFrozenTableValue();
+        checkIndexableField(fieldName.getValue());
+        if (getFieldIndex(fieldName) != null) {
+            return;
+        }
+        TableFieldIndex index = new TableFieldIndex(fieldName);
+        for (int row = rows.nextLiveRow(0); row < rows.rowLimit(); row = rows.nextLiveRow(row + 1)) {
+            index.add(rows.valueAt(row), rows.sequenceAt(row));
+        }
+        if (fieldIndexes == null) {
+            fieldIndexes = new ArrayList<>(1);
+        }
+        fieldIndexes.add(index);
+    }
+
+    public boolean hasIndex(BString fieldName) {
+        return getFieldIndex(fieldName) != null;
+    }
+
+    /**
+     * Returns the rows of which the given field is equal to the given value, in insertion order.
+     *
+     * @param fieldName name of an indexed field
+     * @param value     value of the field
+     * @return the matching rows, or null if there is no index on the field
+     */
+    public Object[] getIndexedRows(BString fieldName, Object value) {
+        TableFieldIndex index = getFieldIndex(fieldName);
+        return index == null ? null : index.lookup(value);
+    }
+
+    private TableFieldIndex getFieldIndex(BString fieldName) {
+        if (fieldIndexes == null) {
+            return null;
+        }
+        for (TableFieldIndex index : fieldIndexes) {
+            if (index.getFieldName().getValue().equals(fieldName.getValue())) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private void checkIndexableField(String fieldName) {
+        Type constraintType = type.getConstrainedType();
+        Type fieldType = null;
+        boolean readonly = constraintType.isReadOnly();
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+            if (field != null) {
+                fieldType = field.getFieldType();
+                readonly |= SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+            }
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+            fieldType = ((BMapType) constraintType).getConstrainedType();
+        }
+
+        if (fieldType == null || !readonly) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot add an index on field '" + fieldName + "': only readonly fields can be indexed"));
+        }
+        int tag = fieldType.getTag();
+        if (!TypeTags.isIntegerTypeTag(tag) && !TypeTags.isStringTypeTag(tag) && tag != TypeTags.BOOLEAN_TAG) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot add an index on field '" + fieldName + "' of type '" + fieldType +
+                            "': only int, string and boolean fields can be indexed"));
+        }
+    }
+
+    private void addToIndexes(V value, long sequence) {
+        for (TableFieldIndex index : fieldIndexes) {
+            index.add(value, sequence);
+        }
+    }
+
+    private void removeFromIndexes(V value, long sequence) {
+        for (TableFieldIndex index : fieldIndexes) {
+            index.remove(value, sequence);
+        }
+    }
+
+    private void updateIndexes(K key, long hash, V oldValue, V newValue) {
+        if (fieldIndexes == null) {
+            return;
+        }
+        long sequence = rows.sequenceAt(rows.find(key, hash));
+        if (oldValue != null) {
+            removeFromIndexes(oldValue, sequence);
+        }
+        addToIndexes(newValue, sequence);
     }
 
     @Override
@@ -257,7 +352,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +380,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int row = rows.nextLiveRow(0); row < rows.rowLimit(); row = rows.nextLiveRow(row + 1)) {
+            keys[i++] = rows.keyAt(row);
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -320,7 +420,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -331,21 +431,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,8 +455,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -386,39 +486,80 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private long lastSequence = -1;
+        private int compactionCount;
 
         TableIterator() {
             this.cursor = 0;
+            this.compactionCount = rows.compactionCount();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            syncCursor();
+            if (cursor >= rows.rowLimit()) {
+                throw new NoSuchElementException();
             }
+            K key = (K) rows.keyAt(cursor);
+            V value = (V) rows.valueAt(cursor);
+            lastSequence = rows.sequenceAt(cursor);
+            cursor++;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            syncCursor();
+            return cursor < rows.rowLimit();
+        }
+
+        private void syncCursor() {
+            if (compactionCount != rows.compactionCount()) {
+                // Rows were shifted by a compaction, continue from the first row inserted after the last one returned.
+                compactionCount = rows.compactionCount();
+                cursor = rows.rowAfterSequence(lastSequence);
+            }
+            cursor = rows.nextLiveRow(cursor);
+        }
+    }
+
+    private class RowValues extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<V>() {
+                private int cursor = rows.nextLiveRow(0);
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < rows.rowLimit();
+                }
+
+                @Override
+                public V next() {
+                    if (cursor >= rows.rowLimit()) {
+                        throw new NoSuchElementException();
+                    }
+                    V value = rows.valueAt(cursor);
+                    cursor = rows.nextLiveRow(cursor + 1);
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
         }
     }
 
@@ -440,11 +581,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            rows.append((K) data, data);
+            if (fieldIndexes != null) {
+                addToIndexes(data, rows.sequenceAt(rows.rowLimit() - 1));
+            }
+            return null;
         }
 
         public V remove(K key) {
@@ -479,69 +620,67 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey((K) key)) {
+            if (rows.containsKey(key, hash)) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            rows.put(key, hash, data);
+            updateIndexes(key, hash, null, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return rows.get(key, TableUtils.hash(key, null));
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash || !TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            V oldData = rows.put(key, hash, data);
+            updateIndexes(key, hash, oldData, data);
+            return oldData;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            long hash = TableUtils.hash(key, null);
+            V oldData = rows.put(key, hash, data);
+            updateIndexes(key, hash, oldData, data);
+            return oldData;
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            long hash = TableUtils.hash(key, null);
+            if (fieldIndexes == null) {
+                return rows.remove(key, hash);
             }
-            return values.remove(hash);
+            int row = rows.find(key, hash);
+            if (row < 0) {
+                return null;
+            }
+            long sequence = rows.sequenceAt(row);
+            V oldData = rows.remove(key, hash);
+            removeFromIndexes(oldData, sequence);
+            return oldData;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.containsKey(key, TableUtils.hash(key, null));
         }
 
         public Type getKeyType() {
@@ -592,15 +731,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
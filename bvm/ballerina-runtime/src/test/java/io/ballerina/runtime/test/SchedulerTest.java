@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMetrics;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for the run queues and backends of the {@link Scheduler}.
+ */
+public class SchedulerTest {
+
+    private static final int PARENT_COUNT = 50;
+    private static final int CHILD_COUNT = 200;
+    private static final long PARK_MILLIS = 10;
+    private static final List<String> PARKED_TIME_BUCKETS = List.of("0.000001", "0.00001", "0.0001", "0.001", "0.01",
+                                                                    "0.1", "1", "10", "+Inf");
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testFanOut(String queueType, String backend) {
+        // The virtual backend falls back to platform threads if the running JDK does not support virtual threads.
+        Scheduler scheduler = new Scheduler(4, false, queueType, backend);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, "child", null);
+            }
+            return null;
+        };
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            scheduler.schedule(new Object[1], parent, null, null, "parent", null);
+        }
+
+        // Returns once all the strands are done, since the scheduler is not immortal.
+        scheduler.start();
+        Assert.assertEquals(completed.get(), PARENT_COUNT * CHILD_COUNT);
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testMetrics(String queueType, String backend) {
+        Scheduler scheduler = new Scheduler(4, false, queueType, backend);
+        // Each strand is parked until another thread completes its future, and then executed again.
+        Function<Object[], Object> parked = params -> {
+            Strand strand = (Strand) params[0];
+            if (strand.returnValue == null) {
+                Future future = new Environment(strand, null).markAsync();
+                new Thread(() -> {
+                    sleep(PARK_MILLIS);
+                    future.complete(Boolean.TRUE);
+                }).start();
+            }
+            return null;
+        };
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            scheduler.schedule(new Object[1], parked, null, null, "parked", null);
+        }
+
+        scheduler.start();
+        SchedulerMetrics metrics = scheduler.getMetrics();
+        Assert.assertEquals(metrics.getActiveStrandCount(), 0);
+        Assert.assertEquals(metrics.getRunnableGroupCount(), 0);
+        Assert.assertEquals(metrics.getScheduledStrandCount(), PARENT_COUNT);
+        Assert.assertEquals(metrics.getCompletedStrandCount(), PARENT_COUNT);
+        Assert.assertEquals(metrics.getParkCount() + metrics.getYieldCount(), PARENT_COUNT);
+        Assert.assertEquals(Arrays.stream(metrics.getParkedTimeHistogram()).sum(), metrics.getParkCount());
+        if (metrics.getParkCount() > 0) {
+            Assert.assertTrue(metrics.getMaxParkedTimeNanos() > 0);
+            Assert.assertTrue(metrics.getParkedTimeNanos() >= metrics.getMaxParkedTimeNanos());
+        }
+        Assert.assertFalse(metrics.getThreadBusyTimeNanos().isEmpty());
+        Assert.assertTrue(metrics.getThreadBusyTimeNanos().values().stream().mapToLong(Long::longValue).sum() > 0);
+
+        // Each bucket of the registered histogram counts the strands parked for up to the bound of the bucket
+        MetricRegistry registry = new MetricRegistry(new TestMetricProvider());
+        metrics.register(registry);
+        Map<String, Long> buckets = new HashMap<>();
+        for (Metric metric : registry.getAllMetrics()) {
+            if (metric.getId().getName().equals("scheduler_parked_time_seconds_bucket")) {
+                Tag bound = metric.getId().getTags().iterator().next();
+                Assert.assertEquals(bound.getKey(), "le");
+                buckets.put(bound.getValue(), (long) ((PolledGauge) metric).getValue());
+            }
+        }
+        Assert.assertEquals(buckets.keySet(), Set.copyOf(PARKED_TIME_BUCKETS));
+        long[] histogram = metrics.getParkedTimeHistogram();
+        long count = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            count += histogram[i];
+            Assert.assertEquals(buckets.get(PARKED_TIME_BUCKETS.get(i)).longValue(), count);
+        }
+        Assert.assertEquals(buckets.get("+Inf").longValue(), metrics.getParkCount());
+    }
+
+    @Test(timeOut = 60000)
+    public void testVirtualThreadBackend() throws ReflectiveOperationException {
+        Method isVirtual = getVirtualThreadCheck();
+        Scheduler scheduler = new Scheduler(4, false, RuntimeConstants.SCHEDULER_QUEUE_GLOBAL,
+                                            RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL);
+        Assert.assertTrue(scheduler.isVirtualThreadBackend());
+
+        AtomicInteger virtualStrands = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> strand = params -> {
+            try {
+                if ((Boolean) isVirtual.invoke(Thread.currentThread())) {
+                    virtualStrands.incrementAndGet();
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            completed.incrementAndGet();
+            return null;
+        };
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            scheduler.schedule(new Object[1], strand, null, null, "virtual", null);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(virtualStrands.get(), PARENT_COUNT);
+        Assert.assertEquals(completed.get(), PARENT_COUNT);
+    }
+
+    @Test
+    public void testPlatformThreadBackend() {
+        Assert.assertFalse(new Scheduler(4, false, RuntimeConstants.SCHEDULER_QUEUE_GLOBAL,
+                                         RuntimeConstants.SCHEDULER_BACKEND_PLATFORM).isVirtualThreadBackend());
+    }
+
+    /**
+     * Returns {@code Thread.isVirtual}, or skips the test if the running JDK cannot create virtual threads.
+     */
+    private static Method getVirtualThreadCheck() {
+        try {
+            Method isVirtual = Thread.class.getMethod("isVirtual");
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            executor.shutdown();
+            return isVirtual;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new SkipException("virtual threads are not supported by the Java runtime '" +
+                                            System.getProperty("java.version") + "'");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @DataProvider(name = "schedulerModes")
+    public Object[][] schedulerModes() {
+        return new Object[][]{
+                {RuntimeConstants.SCHEDULER_QUEUE_GLOBAL, RuntimeConstants.SCHEDULER_BACKEND_PLATFORM},
+                {RuntimeConstants.SCHEDULER_QUEUE_WORK_STEALING, RuntimeConstants.SCHEDULER_BACKEND_PLATFORM},
+                {RuntimeConstants.SCHEDULER_QUEUE_GLOBAL, RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL},
+                {RuntimeConstants.SCHEDULER_QUEUE_WORK_STEALING, RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL}
+        };
+    }
+
+    /**
+     * Metric provider which creates only the polled gauges used by the scheduler.
+     */
+    private static class TestMetricProvider implements MetricProvider {
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new TestPolledGauge<>(metricId, obj, toDoubleFunction);
+        }
+    }
+
+    private static class TestPolledGauge<T> extends AbstractMetric implements PolledGauge {
+
+        private final T obj;
+        private final ToDoubleFunction<T> valueFunction;
+
+        private TestPolledGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
+            super(id);
+            this.obj = obj;
+            this.valueFunction = valueFunction;
+        }
+
+        @Override
+        public double getValue() {
+            return valueFunction.applyAsDouble(obj);
+        }
+    }
+}
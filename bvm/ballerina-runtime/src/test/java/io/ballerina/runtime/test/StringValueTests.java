@@ -1,6 +1,9 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,40 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatNonBmpCodePoints() {
+        BString concat = StringUtils.fromString("ab").concat(SUBJECT).concat(SUBJECT);
+        Assert.assertEquals(concat.length(), 34);
+        Assert.assertEquals(concat.getCodePoint(3), 0x1F6F8);
+        Assert.assertEquals(concat.getCodePoint(16), 0x1F47D);
+        Assert.assertEquals(concat.getCodePoint(19), 0x1F6F8);
+        Assert.assertEquals(concat.getCodePoint(33), 'r');
+    }
+
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            str = str.concat(StringUtils.fromString(i % 100 == 0 ? UNICODE_STR : "x"));
+            expected.append(i % 100 == 0 ? UNICODE_STR : "x");
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), expected.codePointCount(0, expected.length()));
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(100), 'x');
+        Assert.assertEquals(str.getCodePoint(116), 0x1F6F8);
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatFlattenedRope() {
+        BString prefix = StringUtils.fromString(UNICODE_STR + UNICODE_STR + UNICODE_STR + UNICODE_STR);
+        BString rope = prefix.concat(prefix);
+        Assert.assertEquals(rope.substring(1, 2).getCodePoint(0), 0x1F6F8);
+        BString concat = rope.concat(SUBJECT);
+        Assert.assertEquals(concat.getValue(), prefix.getValue() + prefix.getValue() + UNICODE_STR);
+        Assert.assertEquals(concat.indexOf(StringUtils.fromString("Frav"), 130), Long.valueOf(138));
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the cached results of {@link TypeChecker#checkIsType(Type, Type)}.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCacheTest {
+
+    private static final Module MODULE = new Module("testorg", "cache", "1.0.0");
+
+    @Test
+    public void testCachedResultIsReused() {
+        BRecordType source = createRecord("Source", field("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", field("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // A field changed without invalidating the cache does not change the cached result
+        target.getFields().put("a", field("a", PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        TypeCheckCache.invalidate();
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testRecursiveTypes() {
+        // type A record {| int a; A? next; |}; and a structurally equal type B
+        BRecordType recordA = createRecursiveRecord("A", PredefinedTypes.TYPE_INT);
+        BRecordType recordB = createRecursiveRecord("B", PredefinedTypes.TYPE_INT);
+        // type C record {| string a; C? next; |};
+        BRecordType recordC = createRecursiveRecord("C", PredefinedTypes.TYPE_STRING);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(recordA, recordB));
+            Assert.assertTrue(TypeChecker.checkIsType(recordB, recordA));
+            Assert.assertFalse(TypeChecker.checkIsType(recordA, recordC));
+            Assert.assertFalse(TypeChecker.checkIsType(recordC, recordB));
+        }
+    }
+
+    @Test
+    public void testFieldsSetAfterCachedResult() {
+        BRecordType source = createRecord("Source", field("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", field("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // As in the generated code, the cache is invalidated once the published types are populated
+        target.setFields(fields(field("a", PredefinedTypes.TYPE_STRING)));
+        TypeCheckCache.invalidate();
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        target.setFields(fields(field("a", PredefinedTypes.TYPE_INT)));
+        TypeCheckCache.invalidate();
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testUnionMembersSetAfterCachedResult() {
+        BUnionType union = new BUnionType(new ArrayList<>(Arrays.asList(PredefinedTypes.TYPE_INT,
+                                                                        PredefinedTypes.TYPE_NULL)));
+        BRecordType source = createRecord("Source", field("a", PredefinedTypes.TYPE_STRING));
+        BRecordType target = createRecord("Target", field("a", union));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        union.addMembers(PredefinedTypes.TYPE_STRING);
+        TypeCheckCache.invalidate();
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        union.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT});
+        TypeCheckCache.invalidate();
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testIteratingRecordKeepsCachedResults() {
+        BRecordType source = createRecord("Source", field("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", field("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // A field changed without invalidating the cache, so that the cached result is used only if no type
+        // created while iterating the record invalidates the cache
+        target.getFields().put("a", field("a", PredefinedTypes.TYPE_STRING));
+        MapValueImpl<Object, Object> value = createRecordValue(source, 1L);
+        Assert.assertNotNull(value.getIteratorNextReturnType());
+        IteratorValue iterator = value.getIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        TypeCheckCache.invalidate();
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testValueBelongsToTypeOnlyByValue() {
+        // type Source record {| readonly int|string a; |};
+        BUnionType intOrString = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT,
+                                                              PredefinedTypes.TYPE_STRING));
+        BRecordType source = createRecord("Source", new BField(intOrString, "a",
+                                                               SymbolFlags.REQUIRED | SymbolFlags.READONLY));
+        BRecordType target = createRecord("Target", field("a", PredefinedTypes.TYPE_INT));
+        BRecordType subtype = createRecord("Subtype", field("a", PredefinedTypes.TYPE_INT));
+
+        MapValueImpl<Object, Object> intValue = createRecordValue(source, 1L);
+        MapValueImpl<Object, Object> stringValue = createRecordValue(source, StringUtils.fromString("a"));
+        MapValueImpl<Object, Object> subtypeValue = createRecordValue(subtype, 1L);
+
+        for (int i = 0; i < 2; i++) {
+            // The type of the value is not a subtype, but the readonly field of the value belongs to the target
+            Assert.assertFalse(TypeChecker.checkIsType(source, target));
+            Assert.assertTrue(TypeChecker.checkIsType(intValue, target));
+            Assert.assertFalse(TypeChecker.checkIsType(stringValue, target));
+            // The type of the value is a subtype, which is checked only by the types
+            Assert.assertTrue(TypeChecker.checkIsType(subtypeValue, target));
+        }
+
+        target.setFields(fields(field("a", PredefinedTypes.TYPE_STRING)));
+        TypeCheckCache.invalidate();
+        Assert.assertFalse(TypeChecker.checkIsType(intValue, target));
+        Assert.assertTrue(TypeChecker.checkIsType(stringValue, target));
+        Assert.assertFalse(TypeChecker.checkIsType(subtypeValue, target));
+    }
+
+    private static BRecordType createRecursiveRecord(String name, Type fieldType) {
+        BRecordType recordType = createRecord(name);
+        // As in the generated code, the fields of a recursive type are set after the type is created
+        BUnionType optionalRecord = new BUnionType(Arrays.asList(recordType, PredefinedTypes.TYPE_NULL));
+        recordType.setFields(fields(field("a", fieldType), field("next", optionalRecord)));
+        return recordType;
+    }
+
+    private static BRecordType createRecord(String name, Field... fields) {
+        return new BRecordType(name, MODULE, 0, fields(fields), null, true, 0);
+    }
+
+    private static Map<String, Field> fields(Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return fieldMap;
+    }
+
+    private static Field field(String name, Type type) {
+        return new BField(type, name, SymbolFlags.REQUIRED);
+    }
+
+    private static MapValueImpl<Object, Object> createRecordValue(BRecordType type, Object fieldValue) {
+        MapValueImpl<Object, Object> value = new MapValueImpl<>(type);
+        value.put(StringUtils.fromString("a"), fieldValue);
+        return value;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8JsonParser;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the {@link Utf8JsonParser}.
+ */
+public class Utf8JsonParserTest {
+
+    // Size of the chunks the parser reads from direct buffers and streams
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String[] BOUNDARY_TOKENS = {
+            "\"caf\u00e9 \u20ac \uD83D\uDE00 \\u00e9 \\uD83D\\uDE00 \\\"quoted\\\" \\n\"",
+            "-1234567.125e-3",
+            "9223372036854775807",
+            "{\"k\u00e9y\": [true, false, null]}"
+    };
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testParseMatchesJsonParser(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Object expected = JsonParser.parse(json);
+
+        Object fromBytes = Utf8JsonParser.parse(bytes, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(fromBytes, expected), StringUtils.getJsonString(fromBytes));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        Object fromBuffer = Utf8JsonParser.parse(direct, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(fromBuffer, expected), StringUtils.getJsonString(fromBuffer));
+
+        Object fromStream = Utf8JsonParser.parse(new ByteArrayInputStream(bytes),
+                                                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(fromStream, expected), StringUtils.getJsonString(fromStream));
+    }
+
+    @DataProvider
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\":\"supun\", \"address\":{\"street\":\"Palm Grove\"}, \"marks\":[78, 45, 87]}"},
+                {"[1, -2, 3.45, -0, true, false, null, {}, []]"},
+                {"{'single':'quotes'}"},
+                {"\"caf\u00e9 \\u00e9 \\\"quoted\\\" \\n \uD83D\uDE00\""},
+                {" 9223372036854775807 "},
+                {"[[[[\"nested\"]]], {\"a\": {\"b\": [1, {\"c\": null}]}}]"}
+        };
+    }
+
+    @DataProvider
+    public Object[][] bufferBoundaryDocuments() {
+        List<Object[]> documents = new ArrayList<>();
+        for (String token : BOUNDARY_TOKENS) {
+            // The token is split by the end of the first chunk after each of its bytes
+            int tokenLength = token.getBytes(StandardCharsets.UTF_8).length;
+            for (int split = 1; split < tokenLength; split++) {
+                documents.add(new Object[]{createDocumentWithTokenAt(BUFFER_SIZE - split, token)});
+            }
+        }
+        documents.add(new Object[]{createLargeDocument()});
+        return documents.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "bufferBoundaryDocuments")
+    public void testParseAcrossBufferBoundary(String json) {
+        testParseMatchesJsonParser(json);
+    }
+
+    @Test
+    public void testParseFromChunkedStream() {
+        String json = createLargeDocument();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(bytes.length > 3 * BUFFER_SIZE);
+
+        // Each read returns only a few bytes, so that the buffer is refilled in the middle of every token
+        Object fromStream = Utf8JsonParser.parse(new ChunkedInputStream(new ByteArrayInputStream(bytes), 7),
+                                                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(fromStream, JsonParser.parse(json)));
+    }
+
+    private static String createDocumentWithTokenAt(int offset, String token) {
+        // ["aa...a",<token>] where the token starts at the given byte offset
+        StringBuilder json = new StringBuilder("[\"");
+        for (int i = 4; i < offset; i++) {
+            json.append('a');
+        }
+        return json.append("\",").append(token).append(']').toString();
+    }
+
+    private static String createLargeDocument() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"caf\u00e9 \u20ac \uD83D\uDE00 \\u00e9 ").append(i)
+                    .append("\", \"score\": -").append(i).append(".125e-1")
+                    .append(", \"valid\": ").append(i % 2 == 0).append("}");
+        }
+        return json.append("]").toString();
+    }
+
+    @Test
+    public void testNumericModes() {
+        byte[] bytes = "[1, 2.5]".getBytes(StandardCharsets.UTF_8);
+        ArrayValue floats = (ArrayValue) Utf8JsonParser.parse(
+                bytes, JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING);
+        Assert.assertEquals(floats.get(0), 1.0d);
+        Assert.assertEquals(floats.get(1), 2.5d);
+
+        ArrayValue decimals = (ArrayValue) Utf8JsonParser.parse(
+                bytes, JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING);
+        Assert.assertTrue(decimals.get(0) instanceof DecimalValue);
+        Assert.assertTrue(decimals.get(1) instanceof DecimalValue);
+    }
+
+    @Test
+    public void testPullEvents() {
+        byte[] bytes = "[{\"id\": 1}, {\"id\": 2, \"tags\": [\"a\", \"b\"]}, 3]".getBytes(StandardCharsets.UTF_8);
+        Utf8JsonParser parser = new Utf8JsonParser(bytes, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.START_ARRAY);
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.START_OBJECT);
+        Assert.assertEquals(StringUtils.getJsonString(parser.readValue()), "{\"id\":1}");
+        Assert.assertEquals(parser.currentEvent(), Utf8JsonParser.Event.END_OBJECT);
+
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.START_OBJECT);
+        parser.skipValue();
+        Assert.assertEquals(parser.currentEvent(), Utf8JsonParser.Event.END_OBJECT);
+        Assert.assertEquals(parser.depth(), 1);
+
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.VALUE);
+        Assert.assertEquals(parser.readValue(), 3L);
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.END_ARRAY);
+        Assert.assertEquals(parser.next(), Utf8JsonParser.Event.END_DOCUMENT);
+    }
+
+    @Test(dataProvider = "malformedDocuments")
+    public void testMalformedDocuments(String json, String expectedMessage) {
+        try {
+            Utf8JsonParser.parse(json.getBytes(StandardCharsets.UTF_8),
+                                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            Assert.fail("expected a parser error for: " + json);
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), expectedMessage);
+        }
+    }
+
+    @DataProvider
+    public Object[][] malformedDocuments() {
+        return new Object[][]{
+                {"", "empty JSON document at line: 1 column: 1"},
+                {"[1 2]", "expected , or ] at line: 1 column: 4"},
+                {"{\"a\" 1}", "expected : at line: 1 column: 6"},
+                {"{\"a\":1,}", "expected \" at line: 1 column: 8"},
+                {"[\"abc", "unexpected end of JSON document at line: 1 column: 6"},
+                {"some words", "unrecognized token 'some' at line: 1 column: 5"},
+                {"{}\n  x", "JSON document has already ended at line: 2 column: 3"}
+        };
+    }
+
+    /**
+     * Input stream which returns at most the given number of bytes from each read.
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+
+        private final int chunkSize;
+
+        private ChunkedInputStream(InputStream in, int chunkSize) {
+            super(in);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+}
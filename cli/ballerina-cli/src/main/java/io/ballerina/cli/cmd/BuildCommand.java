@@ -178,6 +178,14 @@ public class BuildCommand implements BLauncherCmd {
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
 
+    @CommandLine.Option(names = "--parallel-codegen",
+            description = "generate the JVM code of independent modules in parallel")
+    private Boolean parallelCodeGen;
+
+    @CommandLine.Option(names = "--incremental",
+            description = "reuse the compiled output of the modules that did not change since the last build")
+    private Boolean incrementalBuild;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -283,8 +291,8 @@ public class BuildCommand implements BLauncherCmd {
         }
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                // clean the target directory(projects only)
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)
+                // clean the target directory(projects only), unless the cached output should be reused
+                .addTask(new CleanTargetDirTask(), isSingleFileBuild || project.buildOptions().incrementalBuild())
                 // resolve maven dependencies in Ballerina.toml
                 .addTask(new ResolveMavenDependenciesTask(outStream))
                 // compile the modules
@@ -318,6 +326,8 @@ public class BuildCommand implements BLauncherCmd {
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
                 .listConflictedClasses(listConflictedClasses)
+                .parallelCodeGen(parallelCodeGen)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
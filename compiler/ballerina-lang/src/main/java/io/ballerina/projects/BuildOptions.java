@@ -63,6 +63,14 @@ public class BuildOptions {
         return this.compilationOptions.listConflictedClasses();
     }
 
+    public boolean parallelCodeGen() {
+        return this.compilationOptions.parallelCodeGen();
+    }
+
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
     public String cloud() {
         return this.compilationOptions.getCloud();
     }
@@ -426,6 +426,12 @@ class CodeAnalyzerManager {
         }
 
         private void runTasks(ModuleContext moduleContext, List<Diagnostic> reportedDiagnostics) {
+            // Modules loaded from the compilation cache do not have a semantic model. Their sources have not
+            // changed since they were analyzed in the previous build.
+            if (moduleContext.compilationState() != ModuleCompilationState.COMPILED) {
+                return;
+            }
+
             for (DocumentId srcDocumentId : moduleContext.srcDocumentIds()) {
                 DocumentContext documentContext = moduleContext.documentContext(srcDocumentId);
                 runTasks(documentContext.syntaxTree(), moduleContext.moduleId(),
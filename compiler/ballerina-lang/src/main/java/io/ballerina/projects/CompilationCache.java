@@ -37,9 +37,41 @@ public abstract class CompilationCache {
 
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
+    /**
+     * Returns the cached BIR of the given module, only if it was compiled from sources with the given content hash.
+     *
+     * @param moduleName  name of the module
+     * @param contentHash content hash of the module sources and its dependencies
+     * @return the cached BIR or an empty array if there is no matching BIR
+     */
+    public byte[] getBir(ModuleName moduleName, String contentHash) {
+        return new byte[0];
+    }
+
+    /**
+     * Records the content hash of the module sources that the currently cached BIR and libraries are generated from.
+     *
+     * @param moduleName  name of the module
+     * @param contentHash content hash of the module sources and its dependencies
+     */
+    public void cacheContentHash(ModuleName moduleName, String contentHash) {
+    }
+
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
 
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the path of a platform-specific library with the given name, to which the library can be written
+     * directly. Compilation caches that do not keep the libraries in the file system return an empty value.
+     *
+     * @param compilerBackend compiler backend of the library
+     * @param libraryName     name of the library
+     * @return the path of the library
+     */
+    public Optional<Path> getPlatformSpecificLibraryPath(CompilerBackend compilerBackend, String libraryName) {
+        return Optional.empty();
+    }
 }
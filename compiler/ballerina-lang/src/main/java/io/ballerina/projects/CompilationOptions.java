@@ -34,10 +34,13 @@ class CompilationOptions {
     private String cloud;
     private Boolean taintCheck;
     private Boolean listConflictedClasses;
+    private Boolean parallelCodeGen;
+    private Boolean incrementalBuild;
 
     public CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental,
                               Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile,
-                              String cloud, Boolean taintCheck, Boolean listConflictedClasses) {
+                              String cloud, Boolean taintCheck, Boolean listConflictedClasses,
+                              Boolean parallelCodeGen, Boolean incrementalBuild) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
@@ -47,6 +50,8 @@ class CompilationOptions {
         this.cloud = cloud;
         this.taintCheck = taintCheck;
         this.listConflictedClasses = listConflictedClasses;
+        this.parallelCodeGen = parallelCodeGen;
+        this.incrementalBuild = incrementalBuild;
     }
 
     boolean skipTests() {
@@ -85,6 +90,14 @@ class CompilationOptions {
         return toBooleanDefaultIfNull(listConflictedClasses);
     }
 
+    public boolean parallelCodeGen() {
+        return toBooleanDefaultIfNull(parallelCodeGen);
+    }
+
+    public boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(incrementalBuild);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -108,6 +121,10 @@ class CompilationOptions {
                 () -> toBooleanDefaultIfNull(this.taintCheck));
         this.listConflictedClasses = Objects.requireNonNullElseGet(
                 theirOptions.listConflictedClasses, () -> toBooleanDefaultIfNull(this.listConflictedClasses));
+        this.parallelCodeGen = Objects.requireNonNullElseGet(
+                theirOptions.parallelCodeGen, () -> toBooleanDefaultIfNull(this.parallelCodeGen));
+        this.incrementalBuild = Objects.requireNonNullElseGet(
+                theirOptions.incrementalBuild, () -> toBooleanDefaultIfNull(this.incrementalBuild));
         return this;
     }
 
@@ -34,6 +34,8 @@ class CompilationOptionsBuilder {
     private String cloud;
     private Boolean taintCheck;
     private Boolean listConflictedClasses;
+    private Boolean parallelCodeGen;
+    private Boolean incrementalBuild;
 
     public CompilationOptionsBuilder() {
     }
@@ -83,8 +85,19 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder parallelCodeGen(Boolean value) {
+        parallelCodeGen = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                dumpBirFile, cloud, taintCheck, listConflictedClasses);
+                dumpBirFile, cloud, taintCheck, listConflictedClasses, parallelCodeGen,
+                incrementalBuild);
     }
 }
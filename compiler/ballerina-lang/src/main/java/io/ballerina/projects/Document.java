@@ -19,6 +19,11 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -75,12 +80,14 @@ public class Document {
         private String name;
         private DocumentId documentId;
         private Module oldModule;
+        private DocumentContext oldDocumentContext;
+        private final List<TextDocumentChange> textDocumentChanges = new ArrayList<>();
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
-            this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocumentContext = oldDocument.documentContext;
         }
 
         /**
@@ -91,6 +98,25 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.textDocumentChanges.clear();
+            return this;
+        }
+
+        /**
+         * Applies the given text edits to the content of the document.
+         * <p>
+         * Unlike {@link #withContent(String)}, the syntax tree of the new document is created by reparsing only the
+         * modified parts of the old syntax tree. The changes given by successive calls are applied in order.
+         *
+         * @param textDocumentChange text edits to apply, with ranges relative to the content before this change
+         * @return Document.Modifier that holds the changes
+         */
+        public Modifier withTextDocumentChange(TextDocumentChange textDocumentChange) {
+            if (this.content != null) {
+                this.content = TextDocuments.from(this.content).apply(textDocumentChange).toString();
+            } else {
+                this.textDocumentChanges.add(textDocumentChange);
+            }
             return this;
         }
 
@@ -100,9 +126,20 @@ public class Document {
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext;
+            if (this.content != null) {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content, this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            } else if (!this.textDocumentChanges.isEmpty()) {
+                documentContext = this.oldDocumentContext;
+                for (TextDocumentChange textDocumentChange : this.textDocumentChanges) {
+                    documentContext = DocumentContext.from(documentContext, textDocumentChange);
+                }
+            } else {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId,
+                        this.oldDocumentContext.textDocument().toString(), this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
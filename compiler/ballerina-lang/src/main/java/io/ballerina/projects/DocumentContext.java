@@ -26,6 +26,7 @@ import io.ballerina.projects.environment.ModuleLoadRequest;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.SourceKind;
@@ -61,6 +62,9 @@ class DocumentContext {
     private DocumentId documentId;
     private String name;
     private String content;
+    // Set when the document is created by editing another document, until it is parsed
+    private SyntaxTree previousSyntaxTree;
+    private TextDocumentChange textDocumentChange;
 
     private DocumentContext(DocumentId documentId, String name, String content) {
         this.documentId = documentId;
@@ -72,6 +76,29 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    /**
+     * Creates the context of a document whose content is the content of the given document with the given
+     * changes applied.
+     * <p>
+     * If the given document is already parsed, the syntax tree of the new document is created by the incremental
+     * parser, which reuses the subtrees of the old syntax tree that are not affected by the changes.
+     *
+     * @param oldDocumentContext context of the document to be changed
+     * @param textDocumentChange changes to apply
+     * @return the context of the changed document
+     */
+    static DocumentContext from(DocumentContext oldDocumentContext, TextDocumentChange textDocumentChange) {
+        DocumentContext documentContext = new DocumentContext(oldDocumentContext.documentId,
+                oldDocumentContext.name, null);
+        if (oldDocumentContext.syntaxTree != null || oldDocumentContext.previousSyntaxTree != null) {
+            documentContext.previousSyntaxTree = oldDocumentContext.syntaxTree();
+            documentContext.textDocumentChange = textDocumentChange;
+        } else {
+            documentContext.textDocument = oldDocumentContext.textDocument().apply(textDocumentChange);
+        }
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
@@ -85,6 +112,13 @@ class DocumentContext {
             return;
         }
 
+        if (previousSyntaxTree != null) {
+            syntaxTree = SyntaxTree.from(previousSyntaxTree, textDocumentChange);
+            textDocument = syntaxTree.textDocument();
+            previousSyntaxTree = null;
+            textDocumentChange = null;
+            return;
+        }
         syntaxTree = SyntaxTree.from(this.textDocument(), name);
     }
 
@@ -94,6 +128,9 @@ class DocumentContext {
     }
 
     TextDocument textDocument() {
+        if (this.textDocument == null && this.previousSyntaxTree != null) {
+            parse();
+        }
         if (this.textDocument == null) {
             this.textDocument = TextDocuments.from(this.content);
         }
@@ -0,0 +1,454 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.JBallerinaBackend.JarConflict;
+import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.wso2.ballerinalang.util.Lists;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Assembles the executable jar of a package from the jars that are required for execution.
+ * <p>
+ * The jars are opened and their entries are listed in parallel. The entries are then copied to the executable jar in
+ * a single pass, in the order of the jars, without decompressing them. If several jars contain an entry with the same
+ * name, the entry of the first jar is copied, as it would be loaded from the class path. The service provider
+ * configuration files of all the jars are merged.
+ * <p>
+ * The entries of the dependency jars can also be kept in a dependency layer jar, which is reused as long as the
+ * dependency jars do not change. The executable jar is then assembled from the generated jars of the root package
+ * and the dependency layer only.
+ *
+ * @since 2.0.0
+ */
+class ExecutableJarAssembler {
+    private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    private static final String SERVICES_DIR_PREFIX = "META-INF/services";
+    private static final String LAYER_INDEX_FILE_EXT = ".idx";
+    private static final String CONFLICT_RECORD = "C";
+    private static final String ORIGIN_RECORD = "E";
+
+    // Used to prevent adding duplicated entries during the final jar creation.
+    private final HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
+    // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
+    // service loader related information should be merged together in the final executable jar creation.
+    private final LinkedHashMap<String, StringBuilder> serviceEntries = new LinkedHashMap<>();
+    private final List<JarConflict> conflictedJars = new ArrayList<>();
+
+    List<JarConflict> conflictedJars() {
+        return conflictedJars;
+    }
+
+    /**
+     * Assembles the executable jar from the given jars.
+     *
+     * @param executableFilePath path of the executable jar
+     * @param manifest           manifest of the executable jar
+     * @param jarLibraries       jars to be copied, in the class path order
+     * @throws IOException if a jar cannot be read or the executable jar cannot be written
+     */
+    void assemble(Path executableFilePath, Manifest manifest, List<JarLibrary> jarLibraries) throws IOException {
+        writeJar(executableFilePath, manifest, scanJars(jarLibraries));
+    }
+
+    /**
+     * Assembles the executable jar from the given root package jars and the dependency layer of the given dependency
+     * jars. The dependency layer is created at the given path, unless the layer there is created from the same
+     * dependency jars.
+     *
+     * @param executableFilePath  path of the executable jar
+     * @param manifest            manifest of the executable jar
+     * @param rootJarLibraries    generated jars of the root package, in the class path order
+     * @param dependencyLibraries rest of the jars, in the class path order
+     * @param layerPath           path of the dependency layer jar
+     * @throws IOException if a jar cannot be read or the executable jar cannot be written
+     */
+    void assemble(Path executableFilePath,
+                  Manifest manifest,
+                  List<JarLibrary> rootJarLibraries,
+                  List<JarLibrary> dependencyLibraries,
+                  Path layerPath) throws IOException {
+        Path layerIndexPath = layerPath.resolveSibling(layerPath.getFileName() + LAYER_INDEX_FILE_EXT);
+        String layerKey = getLayerKey(dependencyLibraries);
+        List<JarConflict> layerConflicts = new ArrayList<>();
+        Map<String, JarLibrary> layerOrigins = new HashMap<>();
+        if (!readLayerIndex(layerPath, layerIndexPath, layerKey, dependencyLibraries, layerConflicts, layerOrigins)) {
+            Files.deleteIfExists(layerIndexPath);
+            ExecutableJarAssembler layerAssembler = new ExecutableJarAssembler();
+            Path tempLayerPath = layerPath.resolveSibling(layerPath.getFileName() + ".tmp");
+            layerAssembler.writeJar(tempLayerPath, null, scanJars(dependencyLibraries));
+            Files.move(tempLayerPath, layerPath, StandardCopyOption.REPLACE_EXISTING);
+
+            layerConflicts.addAll(layerAssembler.conflictedJars);
+            for (Map.Entry<String, JarLibrary> copiedEntry : layerAssembler.copiedEntries.entrySet()) {
+                if (isConflictCandidate(copiedEntry.getKey())) {
+                    layerOrigins.put(copiedEntry.getKey(), copiedEntry.getValue());
+                }
+            }
+            writeLayerIndex(layerIndexPath, layerKey, dependencyLibraries, layerConflicts, layerOrigins);
+        }
+
+        List<JarLibrary> jarLibraries = new ArrayList<>(rootJarLibraries);
+        jarLibraries.add(new JarLibrary(layerPath, PlatformLibraryScope.DEFAULT));
+        List<ScannedJar> scannedJars = scanJars(jarLibraries);
+        // Conflicts with the entries of the layer are reported against the jars the entries are copied from
+        scannedJars.get(scannedJars.size() - 1).entryOrigins = layerOrigins;
+        writeJar(executableFilePath, manifest, scannedJars);
+        conflictedJars.addAll(layerConflicts);
+    }
+
+    private void writeJar(Path jarFilePath, Manifest manifest, List<ScannedJar> scannedJars) throws IOException {
+        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                new BufferedOutputStream(new FileOutputStream(jarFilePath.toString())))) {
+            if (manifest != null) {
+                writeManifest(manifest, outStream);
+            }
+
+            // Copy all the jars
+            for (ScannedJar scannedJar : scannedJars) {
+                copyJar(outStream, scannedJar);
+            }
+
+            // Copy merged spi services.
+            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+                JarArchiveEntry e = new JarArchiveEntry(entry.getKey());
+                outStream.putArchiveEntry(e);
+                outStream.write(entry.getValue().toString().getBytes(StandardCharsets.UTF_8));
+                outStream.closeArchiveEntry();
+            }
+        } finally {
+            for (ScannedJar scannedJar : scannedJars) {
+                scannedJar.zipFile.close();
+            }
+        }
+    }
+
+    private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
+        JarArchiveEntry e = new JarArchiveEntry(JarFile.MANIFEST_NAME);
+        outStream.putArchiveEntry(e);
+        manifest.write(new BufferedOutputStream(outStream));
+        outStream.closeArchiveEntry();
+    }
+
+    private void copyJar(ZipArchiveOutputStream outStream, ScannedJar scannedJar) throws IOException {
+        for (ZipArchiveEntry entry : scannedJar.entries) {
+            String entryName = entry.getName();
+            if (entryName.startsWith(SERVICES_DIR_PREFIX)) {
+                // SPIs will be merged first and then put into jar separately.
+                String service = scannedJar.services.get(entryName);
+                StringBuilder s = serviceEntries.computeIfAbsent(entryName, name -> new StringBuilder());
+                s.append(service);
+                if (!service.isEmpty() && !service.endsWith("\n")) {
+                    s.append('\n');
+                }
+                continue;
+            }
+
+            // Skip already copied files or excluded extensions.
+            if (copiedEntries.containsKey(entryName)) {
+                addConflictedJars(scannedJar.origin(entryName), entryName);
+                continue;
+            }
+            if (isExcludedEntry(entryName)) {
+                continue;
+            }
+            copiedEntries.put(entryName, scannedJar.origin(entryName));
+
+            // Transfers the entry to the output stream, while preserving its compression and all the other
+            // original attributes.
+            try (InputStream rawInputStream = scannedJar.zipFile.getRawInputStream(entry)) {
+                outStream.addRawArchiveEntry(entry, rawInputStream);
+            }
+        }
+    }
+
+    private static boolean isExcludedEntry(String entryName) {
+        return excludeExtensions.contains(entryName.substring(entryName.lastIndexOf('.') + 1));
+    }
+
+    private static boolean isConflictCandidate(String entryName) {
+        return entryName.endsWith(".class") && !entryName.equals("module-info.class");
+    }
+
+    private void addConflictedJars(JarLibrary jarLibrary, String entryName) {
+        if (jarLibrary != null && isConflictCandidate(entryName)) {
+            JarLibrary conflictingJar = copiedEntries.get(entryName);
+
+            // Ignore if conflicting jars has same name
+            Path jarFileName = jarLibrary.path().getFileName();
+            Path conflictingJarFileName = conflictingJar.path().getFileName();
+            if (jarFileName != null && conflictingJarFileName != null &&
+                    !jarFileName.toString().equals(conflictingJarFileName.toString())) {
+                JarConflict jarConflict = getJarConflict(conflictingJar);
+
+                // If jar conflict already exists
+                if (jarConflict != null) {
+                    jarConflict.addClasses(entryName);
+                } else { // New jar conflict
+                    this.conflictedJars.add(new JarConflict(conflictingJar, jarLibrary,
+                                                            new ArrayList<>(Collections.singletonList(entryName))));
+                }
+            }
+        }
+    }
+
+    private JarConflict getJarConflict(JarLibrary conflictingJar) {
+        for (JarConflict jarConflict: this.conflictedJars) {
+            if (jarConflict.firstJarLibrary().path() == conflictingJar.path()) {
+                return jarConflict;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens the given jars and lists their entries in parallel.
+     */
+    private static List<ScannedJar> scanJars(List<JarLibrary> jarLibraries) throws IOException {
+        List<Callable<ScannedJar>> scanTasks = new ArrayList<>(jarLibraries.size());
+        for (JarLibrary jarLibrary : jarLibraries) {
+            scanTasks.add(() -> ScannedJar.scan(jarLibrary));
+        }
+
+        List<ScannedJar> scannedJars = new ArrayList<>(jarLibraries.size());
+        ForkJoinPool scanPool = new ForkJoinPool();
+        Exception scanError = null;
+        try {
+            // All the results are collected before failing, so that every jar which is opened is closed
+            for (Future<ScannedJar> scanResult : scanPool.invokeAll(scanTasks)) {
+                try {
+                    scannedJars.add(scanResult.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    scanError = addScanError(scanError, new IOException("reading the jar files was interrupted", e));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    boolean rethrown = cause instanceof IOException || cause instanceof RuntimeException;
+                    scanError = addScanError(scanError, rethrown ? (Exception) cause : new IOException(cause));
+                }
+            }
+        } finally {
+            scanPool.shutdown();
+        }
+
+        if (scanError == null) {
+            return scannedJars;
+        }
+        for (ScannedJar scannedJar : scannedJars) {
+            try {
+                scannedJar.zipFile.close();
+            } catch (IOException e) {
+                scanError.addSuppressed(e);
+            }
+        }
+        if (scanError instanceof RuntimeException) {
+            throw (RuntimeException) scanError;
+        }
+        throw (IOException) scanError;
+    }
+
+    private static Exception addScanError(Exception scanError, Exception error) {
+        if (scanError == null) {
+            return error;
+        }
+        scanError.addSuppressed(error);
+        return scanError;
+    }
+
+    private static String getLayerKey(List<JarLibrary> dependencyLibraries) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed, since all Java platforms are required to support SHA-256
+            throw new IOException("failed to calculate the key of the dependency layer", e);
+        }
+
+        digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+        for (JarLibrary jarLibrary : dependencyLibraries) {
+            Path jarPath = jarLibrary.path().toAbsolutePath();
+            String jarStamp = "\n" + jarPath + "\n" + Files.size(jarPath) + "\n" + Files.getLastModifiedTime(jarPath);
+            digest.update(jarStamp.getBytes(StandardCharsets.UTF_8));
+        }
+
+        StringBuilder layerKey = new StringBuilder();
+        for (byte b : digest.digest()) {
+            layerKey.append(String.format("%02x", b));
+        }
+        return layerKey.toString();
+    }
+
+    /**
+     * Reads the index of the dependency layer, if the layer is created from the given dependency jars.
+     * <p>
+     * The first line of the index is the key of the dependency jars. It is followed by the class conflicts among the
+     * dependency jars and the jar each class of the layer is copied from. Jars are referred to by their position in
+     * the dependency jar list.
+     * <p>
+     * An index which cannot be read or parsed is treated the same as a missing index, hence the layer is created
+     * again.
+     *
+     * @return true if the index is read
+     */
+    private static boolean readLayerIndex(Path layerPath,
+                                          Path layerIndexPath,
+                                          String layerKey,
+                                          List<JarLibrary> dependencyLibraries,
+                                          List<JarConflict> layerConflicts,
+                                          Map<String, JarLibrary> layerOrigins) {
+        if (!Files.exists(layerPath) || !Files.exists(layerIndexPath)) {
+            return false;
+        }
+
+        Map<JarLibrary, JarConflict> conflictMap = new LinkedHashMap<>();
+        Map<String, JarLibrary> origins = new HashMap<>();
+        try {
+            List<String> records = Files.readAllLines(layerIndexPath, StandardCharsets.UTF_8);
+            if (records.isEmpty() || !records.get(0).equals(layerKey)) {
+                return false;
+            }
+
+            for (String record : records.subList(1, records.size())) {
+                String[] fields = record.split("\t");
+                if (fields[0].equals(CONFLICT_RECORD)) {
+                    JarLibrary firstJarLibrary = dependencyLibraries.get(Integer.parseInt(fields[1]));
+                    JarLibrary secondJarLibrary = dependencyLibraries.get(Integer.parseInt(fields[2]));
+                    JarConflict jarConflict = conflictMap.computeIfAbsent(firstJarLibrary,
+                            jarLibrary -> new JarConflict(jarLibrary, secondJarLibrary, new ArrayList<>()));
+                    jarConflict.addClasses(fields[3]);
+                } else if (fields[0].equals(ORIGIN_RECORD)) {
+                    origins.put(fields[2], dependencyLibraries.get(Integer.parseInt(fields[1])));
+                } else {
+                    return false;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // The index is corrupted or cannot be read
+            return false;
+        }
+        layerConflicts.addAll(conflictMap.values());
+        layerOrigins.putAll(origins);
+        return true;
+    }
+
+    private static void writeLayerIndex(Path layerIndexPath,
+                                        String layerKey,
+                                        List<JarLibrary> dependencyLibraries,
+                                        List<JarConflict> layerConflicts,
+                                        Map<String, JarLibrary> layerOrigins) throws IOException {
+        Map<JarLibrary, Integer> jarIndexes = new HashMap<>();
+        for (int i = 0; i < dependencyLibraries.size(); i++) {
+            jarIndexes.put(dependencyLibraries.get(i), i);
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(layerIndexPath, StandardCharsets.UTF_8)) {
+            writer.write(layerKey);
+            writer.newLine();
+            for (JarConflict jarConflict : layerConflicts) {
+                for (String conflictedClass : jarConflict.classes) {
+                    writer.write(CONFLICT_RECORD + "\t" + jarIndexes.get(jarConflict.firstJarLibrary) + "\t"
+                            + jarIndexes.get(jarConflict.secondJarLibrary) + "\t" + conflictedClass);
+                    writer.newLine();
+                }
+            }
+            for (Map.Entry<String, JarLibrary> origin : layerOrigins.entrySet()) {
+                writer.write(ORIGIN_RECORD + "\t" + jarIndexes.get(origin.getValue()) + "\t" + origin.getKey());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * An opened jar along with its entries in the physical order and the content of its service provider
+     * configuration files.
+     */
+    private static class ScannedJar {
+        private final JarLibrary jarLibrary;
+        private final ZipFile zipFile;
+        private final List<ZipArchiveEntry> entries = new ArrayList<>();
+        private final Map<String, String> services = new HashMap<>();
+        private Map<String, JarLibrary> entryOrigins;
+
+        private ScannedJar(JarLibrary jarLibrary, ZipFile zipFile) {
+            this.jarLibrary = jarLibrary;
+            this.zipFile = zipFile;
+        }
+
+        static ScannedJar scan(JarLibrary jarLibrary) throws IOException {
+            ScannedJar scannedJar = new ScannedJar(jarLibrary, new ZipFile(jarLibrary.path().toFile()));
+            try {
+                Enumeration<ZipArchiveEntry> entries = scannedJar.zipFile.getEntriesInPhysicalOrder();
+                while (entries.hasMoreElements()) {
+                    ZipArchiveEntry entry = entries.nextElement();
+                    String entryName = entry.getName();
+                    if (entryName.equals(JarFile.MANIFEST_NAME)) {
+                        continue;
+                    }
+
+                    if (entryName.startsWith(SERVICES_DIR_PREFIX)) {
+                        try (InputStream inStream = scannedJar.zipFile.getInputStream(entry)) {
+                            scannedJar.services.put(entryName,
+                                    new String(inStream.readAllBytes(), StandardCharsets.UTF_8));
+                        }
+                    }
+                    scannedJar.entries.add(entry);
+                }
+            } catch (IOException | RuntimeException e) {
+                scannedJar.zipFile.close();
+                throw e;
+            }
+            return scannedJar;
+        }
+
+        JarLibrary origin(String entryName) {
+            if (entryOrigins == null) {
+                return jarLibrary;
+            }
+            return entryOrigins.get(entryName);
+        }
+    }
+}
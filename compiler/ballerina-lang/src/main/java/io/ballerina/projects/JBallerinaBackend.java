@@ -26,10 +26,6 @@ import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
-import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
-import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.ballerinalang.maven.Dependency;
 import org.ballerinalang.maven.MavenResolver;
 import org.ballerinalang.maven.Utils;
@@ -42,16 +38,11 @@ import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
-import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -63,8 +54,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
-import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -84,7 +79,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
-    private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    private static final String DEPENDENCY_LAYER_NAME = "dependency-layer";
     private static final PrintStream out = System.out;
 
     private final PackageResolution pkgResolution;
@@ -100,6 +95,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private List<JarConflict> conflictedJars;
+    // JVM code generation tasks of the current dependency level. This is null unless parallel code generation
+    // is enabled.
+    private List<Callable<Void>> pendingCodeGenTasks;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -150,13 +148,26 @@ public class JBallerinaBackend extends CompilerBackend {
         }
 
         List<Diagnostic> diagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
-            // We can't generate backend code when one of its dependencies have errors.
-            if (hasNoErrors(diagnostics)) {
-                moduleContext.generatePlatformSpecificCode(compilerContext, this);
+        if (packageContext.compilationOptions().parallelCodeGen()) {
+            performParallelCodeGen();
+            // Diagnostics are collected after all the modules are generated, in the same order as the sequential
+            // code generation, so that the result does not depend on the order in which the tasks complete.
+            for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                    diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(),
+                                                          moduleContext.project()));
+                }
             }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+        } else {
+            for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+                // We can't generate backend code when one of its dependencies have errors.
+                if (hasNoErrors(diagnostics)) {
+                    moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                }
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                    diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(),
+                                                          moduleContext.project()));
+                }
             }
         }
 
@@ -169,6 +180,81 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    /**
+     * Generates the modules level by level of the module dependency graph. The compiler phases up to BIR generation
+     * share state through the {@code CompilerContext}, hence they run one module at a time. The JVM code generation
+     * of the modules of a level, which only reads the BIR of the module and its dependencies, runs in parallel.
+     * A level is started only after all the modules of the previous levels are generated.
+     */
+    private void performParallelCodeGen() {
+        ForkJoinPool codeGenPool = new ForkJoinPool();
+        try {
+            boolean hasErrors = false;
+            for (List<ModuleContext> moduleLevel : getModuleLevels(pkgResolution.topologicallySortedModuleList())) {
+                pendingCodeGenTasks = new ArrayList<>();
+                for (ModuleContext moduleContext : moduleLevel) {
+                    // We can't generate backend code when one of its dependencies have errors.
+                    if (hasErrors) {
+                        break;
+                    }
+                    moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                    hasErrors = Diagnostics.hasErrors(moduleContext.diagnostics());
+                }
+                runCodeGenTasks(codeGenPool, pendingCodeGenTasks);
+                for (ModuleContext moduleContext : moduleLevel) {
+                    hasErrors |= Diagnostics.hasErrors(moduleContext.diagnostics());
+                }
+                if (hasErrors) {
+                    break;
+                }
+            }
+        } finally {
+            pendingCodeGenTasks = null;
+            codeGenPool.shutdown();
+        }
+    }
+
+    private static List<List<ModuleContext>> getModuleLevels(List<ModuleContext> sortedModuleList) {
+        // The level of a module is one more than the highest level of its dependencies
+        Map<ModuleId, Integer> moduleLevelMap = new HashMap<>();
+        List<List<ModuleContext>> moduleLevels = new ArrayList<>();
+        for (ModuleContext moduleContext : sortedModuleList) {
+            int level = 0;
+            for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+                Integer dependencyLevel = moduleLevelMap.get(moduleDependency.moduleId());
+                if (dependencyLevel != null) {
+                    level = Math.max(level, dependencyLevel + 1);
+                }
+            }
+            moduleLevelMap.put(moduleContext.moduleId(), level);
+            if (level == moduleLevels.size()) {
+                moduleLevels.add(new ArrayList<>());
+            }
+            moduleLevels.get(level).add(moduleContext);
+        }
+        return moduleLevels;
+    }
+
+    private static void runCodeGenTasks(ForkJoinPool codeGenPool, List<Callable<Void>> codeGenTasks) {
+        if (codeGenTasks.isEmpty()) {
+            return;
+        }
+        for (Future<Void> codeGenResult : codeGenPool.invokeAll(codeGenTasks)) {
+            try {
+                codeGenResult.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProjectException("code generation was interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new ProjectException("code generation failed: " + cause.getMessage(), cause);
+            }
+        }
+    }
+
     private boolean hasNoErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -295,6 +381,18 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
+        if (pendingCodeGenTasks != null) {
+            pendingCodeGenTasks.add(() -> {
+                generateModuleJars(moduleContext, compilationCache);
+                return null;
+            });
+            return;
+        }
+        generateModuleJars(moduleContext, compilationCache);
+    }
+
+    private void generateModuleJars(ModuleContext moduleContext, CompilationCache compilationCache) {
+        BLangPackage bLangPackage = moduleContext.bLangPackage();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
         try {
@@ -303,6 +401,7 @@ public class JBallerinaBackend extends CompilerBackend {
         } catch (IOException e) {
             throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
         }
+        recordContentHash(moduleContext, compilationCache);
 
         // skip generation of the test jar if --skip-tests option is set to true
         if (Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS))) {
@@ -323,6 +422,14 @@ public class JBallerinaBackend extends CompilerBackend {
         }
     }
 
+    private void recordContentHash(ModuleContext moduleContext, CompilationCache compilationCache) {
+        // The cached BIR and jar can be reused by the next build only after both of them are written.
+        // Modules that generate a test jar are not compiled incrementally, hence there is no test jar to wait for.
+        if (moduleContext.isIncrementallyCompiled()) {
+            compilationCache.cacheContentHash(moduleContext.moduleName(), moduleContext.contentHash());
+        }
+    }
+
     @Override
     public String libraryFileExtension() {
         return JAR_FILE_EXTENSION;
@@ -353,39 +460,37 @@ public class JBallerinaBackend extends CompilerBackend {
     private void assembleExecutableJar(Path executableFilePath,
                                        Manifest manifest,
                                        Collection<JarLibrary> jarLibraries) throws IOException {
-        // Used to prevent adding duplicated entries during the final jar creation.
-        HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
-
-        // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
-        // service loader related information should be merged together in the final executable jar creation.
-        HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-
-        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
-            writeManifest(manifest, outStream);
+        ExecutableJarAssembler jarAssembler = new ExecutableJarAssembler();
+        Optional<Path> dependencyLayerPath = Optional.empty();
+        if (packageContext.compilationOptions().incrementalBuild()) {
+            CompilationCache compilationCache = packageContext.project().projectEnvironmentContext()
+                    .getService(CompilationCache.class);
+            dependencyLayerPath = compilationCache.getPlatformSpecificLibraryPath(this, DEPENDENCY_LAYER_NAME);
+        }
 
-            // Copy all the jars
-            for (JarLibrary library : jarLibraries) {
-                copyJar(outStream, library, copiedEntries, serviceEntries);
+        if (dependencyLayerPath.isEmpty()) {
+            jarAssembler.assemble(executableFilePath, manifest, new ArrayList<>(jarLibraries));
+        } else {
+            // The generated jars of the root package change with every build that compiles a module. The rest of
+            // the jars are kept in a dependency layer, which is reused by the next build if they do not change.
+            Set<Path> rootJarPaths = new HashSet<>();
+            for (ModuleId moduleId : packageContext.moduleIds()) {
+                ModuleName moduleName = packageContext.moduleContext(moduleId).moduleName();
+                rootJarPaths.add(codeGeneratedLibrary(packageContext.packageId(), moduleName).path());
             }
-
-            // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
+            List<JarLibrary> rootJarLibraries = new ArrayList<>();
+            List<JarLibrary> dependencyLibraries = new ArrayList<>();
+            for (JarLibrary jarLibrary : jarLibraries) {
+                if (rootJarPaths.contains(jarLibrary.path())) {
+                    rootJarLibraries.add(jarLibrary);
+                } else {
+                    dependencyLibraries.add(jarLibrary);
+                }
             }
+            jarAssembler.assemble(executableFilePath, manifest, rootJarLibraries, dependencyLibraries,
+                    dependencyLayerPath.get());
         }
-    }
-
-    private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
-        JarArchiveEntry e = new JarArchiveEntry(JarFile.MANIFEST_NAME);
-        outStream.putArchiveEntry(e);
-        manifest.write(new BufferedOutputStream(outStream));
-        outStream.closeArchiveEntry();
+        this.conflictedJars.addAll(jarAssembler.conflictedJars());
     }
 
     private Manifest createManifest() {
@@ -409,78 +514,6 @@ public class JBallerinaBackend extends CompilerBackend {
         return manifest;
     }
 
-    /**
-     * Copies a given jar file into the executable fat jar.
-     *
-     * @param outStream     Output stream of the final uber jar.
-     * @param jarLibrary    jar library.
-     * @param copiedEntries Entries set will be used to ignore duplicate files.
-     * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
-     */
-    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
-            HashMap<String, JarLibrary> copiedEntries, HashMap<String, StringBuilder> services) throws IOException {
-
-        ZipFile zipFile = new ZipFile(jarLibrary.path().toFile());
-        ZipArchiveEntryPredicate predicate = entry -> {
-            String entryName = entry.getName();
-            if (entryName.equals("META-INF/MANIFEST.MF")) {
-                return false;
-            }
-
-            if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
-                }
-                char c = '\n';
-
-                int len;
-                try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-                if (c != '\n') {
-                    s.append('\n');
-                }
-
-                // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                // separately. Therefore the predicate should be set as false.
-                return false;
-            }
-
-            // Skip already copied files or excluded extensions.
-            if (isCopiedEntry(entryName, copiedEntries)) {
-                addConflictedJars(jarLibrary, copiedEntries, entryName);
-                return false;
-            }
-            if (isExcludedEntry(entryName)) {
-                return false;
-            }
-            // SPIs will be merged first and then put into jar separately.
-            copiedEntries.put(entryName, jarLibrary);
-            return true;
-        };
-
-        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-        // all the other original attributes.
-        zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
-    }
-
-    private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
-        return copiedEntries.keySet().contains(entryName);
-    }
-
-    private static boolean isExcludedEntry(String entryName) {
-        return excludeExtensions.contains(entryName.substring(entryName.lastIndexOf('.') + 1));
-    }
-
     private PlatformLibrary codeGeneratedLibrary(PackageId packageId,
                                                  ModuleName moduleName,
                                                  PlatformLibraryScope scope,
@@ -614,35 +647,4 @@ public class JBallerinaBackend extends CompilerBackend {
             return String.valueOf(warning);
         }
     }
-
-    private void addConflictedJars(JarLibrary jarLibrary, HashMap<String, JarLibrary> copiedEntries, String entryName) {
-        if (entryName.endsWith(".class") && !entryName.equals("module-info.class")) {
-            JarLibrary conflictingJar = copiedEntries.get(entryName);
-
-            // Ignore if conflicting jars has same name
-            Path jarFileName = jarLibrary.path().getFileName();
-            Path conflictingJarFileName = conflictingJar.path().getFileName();
-            if (jarFileName != null && conflictingJarFileName != null &&
-                    !jarFileName.toString().equals(conflictingJarFileName.toString())) {
-                JarConflict jarConflict = getJarConflict(conflictingJar);
-
-                // If jar conflict already exists
-                if (jarConflict != null) {
-                    jarConflict.addClasses(entryName);
-                } else { // New jar conflict
-                    this.conflictedJars.add(new JarConflict(conflictingJar, jarLibrary,
-                                                            new ArrayList<>(Collections.singletonList(entryName))));
-                }
-            }
-        }
-    }
-
-    private JarConflict getJarConflict(JarLibrary conflictingJar) {
-        for (JarConflict jarConflict: this.conflictedJars) {
-            if (jarConflict.firstJarLibrary().path() == conflictingJar.path()) {
-                return jarConflict;
-            }
-        }
-        return null;
-    }
 }
@@ -42,8 +42,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -51,8 +50,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            // The module is either compiled or loaded from the compilation cache by now
+            moduleContext.generatePlatformSpecificCode(compilerContext, compilerBackend);
         }
     },
     PARSED {
@@ -71,8 +70,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -80,8 +78,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            // The module is either compiled or loaded from the compilation cache by now
+            moduleContext.generatePlatformSpecificCode(compilerContext, compilerBackend);
         }
     },
     DEPENDENCIES_RESOLVED_FROM_SOURCES {
@@ -97,8 +95,7 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSources(moduleContext, compilerContext);
         }
 
         @Override
@@ -106,8 +103,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            // The module is either compiled or loaded from the compilation cache by now
+            moduleContext.generatePlatformSpecificCode(compilerContext, compilerBackend);
         }
     },
     COMPILED {
@@ -290,6 +287,16 @@ enum ModuleCompilationState {
         }
     };
 
+    private static void compileFromSources(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (ModuleContext.loadFromCompilationCacheInternal(moduleContext, compilerContext)) {
+            moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+            return;
+        }
+
+        ModuleContext.compileInternal(moduleContext, compilerContext);
+        moduleContext.setCompilationState(COMPILED);
+    }
+
     abstract void parse(ModuleContext moduleContext);
 
     abstract void resolveDependencies(ModuleContext moduleContext);
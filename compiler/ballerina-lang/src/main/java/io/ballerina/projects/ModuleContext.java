@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
@@ -36,11 +37,18 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -80,6 +88,7 @@ class ModuleContext {
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
+    private String contentHash;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -222,6 +231,109 @@ class ModuleContext {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns whether the compiled output of this module can be reused from the compilation cache.
+     * <p>
+     * The cache is only consulted for build projects with the incremental build option. Test sources are not part
+     * of the cached BIR, hence a module with tests is reused only when tests are skipped.
+     *
+     * @return true if this module can be loaded from the compilation cache
+     */
+    boolean isIncrementallyCompiled() {
+        if (project.kind() != ProjectKind.BUILD_PROJECT) {
+            return false;
+        }
+
+        BuildOptions buildOptions = project.buildOptions();
+        return buildOptions.incrementalBuild() && (buildOptions.skipTests() || testDocContextMap.isEmpty());
+    }
+
+    /**
+     * Returns the SHA-256 hash of everything that the compiled output of this module depends on. That is the compiler
+     * version, the module descriptor, the compilation options, Ballerina.toml, the module sources, and the content
+     * hashes of the modules this module depends on.
+     * <p>
+     * The hash can only be calculated after the dependencies of the module are resolved. It only covers inputs which
+     * exist before any module is compiled, so that it does not depend on when it is first calculated. The sources of
+     * modules loaded from a BALA are hashed as well, hence their BIR is not.
+     *
+     * @return the content hash of this module
+     */
+    String contentHash() {
+        if (contentHash != null) {
+            return contentHash;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed, since all Java platforms are required to support SHA-256
+            throw new ProjectException("Failed to calculate the content hash of module: " + moduleName(), e);
+        }
+
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.org().toString());
+        updateDigest(digest, moduleDescriptor.packageName().toString());
+        updateDigest(digest, moduleDescriptor.version().toString());
+        updateDigest(digest, moduleDescriptor.name().toString());
+
+        BuildOptions buildOptions = project.buildOptions();
+        updateDigest(digest, Boolean.toString(buildOptions.skipTests()));
+        updateDigest(digest, Boolean.toString(buildOptions.observabilityIncluded()));
+        updateDigest(digest, Boolean.toString(buildOptions.experimental()));
+        updateDigest(digest, Boolean.toString(buildOptions.compilationOptions().getTaintCheck()));
+        updateDigest(digest, project.currentPackage().ballerinaToml()
+                .map(ballerinaToml -> ballerinaToml.tomlDocument().textDocument().toString())
+                .orElse(""));
+
+        updateDigest(digest, srcDocContextMap.values());
+        updateDigest(digest, testDocContextMap.values());
+
+        List<String> dependencyHashes = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            dependencyHashes.add(dependencyModuleContext(moduleDependency).contentHash());
+        }
+        Collections.sort(dependencyHashes);
+        for (String dependencyHash : dependencyHashes) {
+            updateDigest(digest, dependencyHash);
+        }
+
+        StringBuilder hexHash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hexHash.append(String.format("%02x", b));
+        }
+        contentHash = hexHash.toString();
+        return contentHash;
+    }
+
+    private ModuleContext dependencyModuleContext(ModuleDependency moduleDependency) {
+        PackageId packageId = moduleDependency.packageDependency().packageId();
+        Package currentPkg = project.currentPackage();
+        if (currentPkg.packageId().equals(packageId)) {
+            return currentPkg.module(moduleDependency.moduleId()).moduleContext();
+        }
+
+        PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+        return packageCache.getPackageOrThrow(packageId).module(moduleDependency.moduleId()).moduleContext();
+    }
+
+    private static void updateDigest(MessageDigest digest, Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> sortedDocContexts = new ArrayList<>(documentContexts);
+        sortedDocContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : sortedDocContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.textDocument().toString());
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix the length, so that the boundaries of the values are part of the hash
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
     private void parseTestSources(BLangPackage pkgNode, PackageID pkgId, CompilerContext compilerContext) {
         BLangTestablePackage testablePkg = TreeBuilder.createTestablePackageNode();
         // TODO Not sure why we need to do this. It is there in the current implementation
@@ -342,6 +454,30 @@ class ModuleContext {
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
+    /**
+     * Loads the module symbol from the BIR in the compilation cache, if the module sources and dependencies did not
+     * change since the BIR was cached.
+     *
+     * @param moduleContext   module context
+     * @param compilerContext compiler context
+     * @return true if the module symbol is loaded from the compilation cache
+     */
+    static boolean loadFromCompilationCacheInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (!moduleContext.isIncrementallyCompiled() || System.getProperty("BOOTSTRAP_LANG_LIB") != null) {
+            return false;
+        }
+
+        byte[] cachedBir = moduleContext.compilationCache.getBir(moduleContext.moduleName(),
+                moduleContext.contentHash());
+        if (cachedBir.length == 0) {
+            return false;
+        }
+
+        moduleContext.birBytes = cachedBir;
+        loadPackageSymbolInternal(moduleContext, compilerContext);
+        return true;
+    }
+
     static void compileInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
@@ -420,6 +420,10 @@ public class ManifestBuilder {
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.TAINT_CHECK.toString());
         boolean listConflictedClasses =
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.LIST_CONFLICTED_CLASSES.toString());
+        boolean parallelCodeGen =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.PARALLEL_CODEGEN.toString());
+        boolean incrementalBuild =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.INCREMENTAL_BUILD.toString());
 
         return buildOptionsBuilder
                 .skipTests(skipTests)
@@ -430,6 +434,8 @@ public class ManifestBuilder {
                 .cloud(cloud)
                 .taintCheck(taintCheck)
                 .listConflictedClasses(listConflictedClasses)
+                .parallelCodeGen(parallelCodeGen)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
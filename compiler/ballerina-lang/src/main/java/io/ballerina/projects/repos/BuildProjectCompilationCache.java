@@ -21,6 +21,7 @@ import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.file.Path;
 
 /**
@@ -43,8 +44,16 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory, unless the caller can prove that it is
+        // up to date via the content hash. See getBir(ModuleName, String).
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // The BIR in the target directory may belong to an older version of the module sources.
+        // Remove it along with its content hash, so that it is not reused until the new one is recorded.
+        removeCachedBir(moduleName);
+        super.cacheBir(moduleName, birContent);
+    }
 }
@@ -24,11 +24,13 @@ import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -44,12 +46,15 @@ import java.util.Optional;
  * - bir
  * - mod1.bir
  * - mod2.bir
+ * - mod1.hash
  * - jar
  * - org-package-name-version.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String CONTENT_HASH_FILE_EXT = ".hash";
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -61,6 +66,54 @@ public class FileSystemCache extends CompilationCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
+        return readBir(moduleName);
+    }
+
+    @Override
+    public byte[] getBir(ModuleName moduleName, String contentHash) {
+        Path hashFilePath = getContentHashPath(moduleName);
+        if (!Files.exists(hashFilePath)) {
+            return new byte[0];
+        }
+
+        try {
+            String cachedContentHash = Files.readString(hashFilePath, StandardCharsets.UTF_8);
+            if (!cachedContentHash.equals(contentHash)) {
+                return new byte[0];
+            }
+        } catch (IOException e) {
+            // An unreadable hash file is treated as a cache miss
+            return new byte[0];
+        }
+        return readBir(moduleName);
+    }
+
+    @Override
+    public void cacheContentHash(ModuleName moduleName, String contentHash) {
+        Path hashFilePath = getContentHashPath(moduleName);
+        try {
+            FileUtils.writeStringToFile(hashFilePath.toFile(), contentHash, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ProjectException("Failed to cache the content hash of module: " + moduleName, e);
+        }
+    }
+
+    /**
+     * Removes the cached BIR and the content hash of the given module.
+     *
+     * @param moduleName name of the module
+     */
+    protected void removeCachedBir(ModuleName moduleName) {
+        try {
+            Files.deleteIfExists(getContentHashPath(moduleName));
+            Files.deleteIfExists(getBirPath().resolve(moduleName.toString()
+                    + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT));
+        } catch (IOException e) {
+            throw new ProjectException("Failed to remove the cached bir of module: " + moduleName, e);
+        }
+    }
+
+    private byte[] readBir(ModuleName moduleName) {
         Path birFilePath = getBirPath().resolve(moduleName.toString()
                 + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
         if (Files.exists(birFilePath)) {
@@ -115,6 +168,13 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<Path> getPlatformSpecificLibraryPath(CompilerBackend compilerBackend, String libraryName) {
+        Path targetPlatformCacheDirPath = getTargetPlatformCacheDirPath(compilerBackend);
+        createDirectories(targetPlatformCacheDirPath);
+        return Optional.of(targetPlatformCacheDirPath.resolve(libraryName + compilerBackend.libraryFileExtension()));
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -133,6 +193,10 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    private Path getContentHashPath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + CONTENT_HASH_FILE_EXT);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -66,6 +66,10 @@ public enum CompilerOptionName {
 
     LIST_CONFLICTED_CLASSES("listConflictedClasses"),
 
+    PARALLEL_CODEGEN("parallelCodeGen"),
+
+    INCREMENTAL_BUILD("incrementalBuild"),
+
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
      * If the option is set, then the compilation is initiated by the Project APT.
@@ -98,7 +98,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -143,8 +142,6 @@ public class BIRPackageSymbolEnter {
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -168,8 +165,7 @@ public class BIRPackageSymbolEnter {
     public BPackageSymbol definePackage(PackageID packageId,
                                         RepoHierarchy packageRepositoryHierarchy,
                                         byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = definePackageSymbol(packageId, packageRepositoryHierarchy, packageBinaryContent);
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -181,15 +177,16 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId,
-                                         RepoHierarchy packageRepositoryHierarchy,
-                                         InputStream programFileInStream) {
+    private synchronized BPackageSymbol definePackageSymbol(PackageID packageId,
+                                               RepoHierarchy packageRepositoryHierarchy,
+                                               byte[] programFileContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(programFileContent))) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.programFileContent = programFileContent;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -232,6 +229,14 @@ public class BIRPackageSymbolEnter {
         PackageID pkgId = createPackageID(orgName, pkgName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
 
+        // The scope of the annotations module is the root scope, which is shared with other modules.
+        LazyScopeEntries lazyScopeEntries = null;
+        if (!pkgId.equals(PackageID.ANNOTATIONS)) {
+            BIRPackageSymbolEnv symbolEnv = this.env;
+            lazyScopeEntries = new LazyScopeEntries(this, offset -> defineFunction(symbolEnv, offset));
+            this.env.pkgSymbol.scope.entries = lazyScopeEntries;
+        }
+
         // TODO Validate this pkdID with the requestedPackageID available in the env.
 
         // Define import packages.
@@ -249,8 +254,13 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        // Define functions. Functions are only registered by name, and are defined when they are looked up.
+        if (lazyScopeEntries != null) {
+            LazyScopeEntries entries = lazyScopeEntries;
+            defineSymbols(dataInStream, rethrow(in -> defineFunctionLazily(entries, in)));
+        } else {
+            defineSymbols(dataInStream, rethrow(this::defineIndexedFunction));
+        }
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -382,7 +392,52 @@ public class BIRPackageSymbolEnter {
         this.env.pkgSymbol.imports.add(importPackageSymbol);
     }
 
+    private void defineIndexedFunction(DataInputStream dataInStream) throws IOException {
+        dataInStream.readInt(); // ignore the name
+        dataInStream.readLong(); // ignore the length
+        defineFunction(dataInStream);
+    }
+
+    private void defineFunctionLazily(LazyScopeEntries lazyScopeEntries, DataInputStream dataInStream)
+            throws IOException {
+        Name funcName = names.fromString(getStringCPEntryValue(dataInStream));
+        long length = dataInStream.readLong();
+        int offset = this.env.programFileContent.length - dataInStream.available();
+        dataInStream.skip(length);
+        lazyScopeEntries.defineLazily(funcName, offset);
+    }
+
+    private BInvokableSymbol defineFunction(BIRPackageSymbolEnv symbolEnv, int offset) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = symbolEnv;
+        this.currentStructure = null;
+        byte[] content = symbolEnv.programFileContent;
+        try (DataInputStream dataInStream = new DataInputStream(
+                new ByteArrayInputStream(content, offset, content.length - offset))) {
+            return readFunction(dataInStream);
+        } catch (Throwable e) {
+            throw new BLangCompilerException("failed to load the module '" + symbolEnv.pkgSymbol.pkgID.toString() +
+                    "' from its BIR" + (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
     private void defineFunction(DataInputStream dataInStream) throws IOException {
+        BInvokableSymbol invokableSymbol = readFunction(dataInStream);
+        Scope scopeToDefine = this.env.pkgSymbol.scope;
+        if (this.currentStructure != null) {
+            BType attachedType = this.currentStructure.type;
+            if (attachedType.tag == TypeTags.OBJECT || attachedType.tag == TypeTags.RECORD) {
+                scopeToDefine = attachedType.tsymbol.scope;
+            }
+        }
+        scopeToDefine.define(invokableSymbol.name, invokableSymbol);
+    }
+
+    private BInvokableSymbol readFunction(DataInputStream dataInStream) throws IOException {
         Location pos = readPosition(dataInStream);
 
         // Consider attached functions.. remove the first variable
@@ -399,8 +454,6 @@ public class BIRPackageSymbolEnter {
         invokableSymbol.source = pos.lineRange().filePath();
         invokableSymbol.retType = funcType.retType;
 
-        Scope scopeToDefine = this.env.pkgSymbol.scope;
-
         if (this.currentStructure != null) {
             BType attachedType = this.currentStructure.type;
 
@@ -409,7 +462,6 @@ public class BIRPackageSymbolEnter {
             invokableSymbol.name =
                     names.fromString(Symbols.getAttachedFuncSymbolName(attachedType.tsymbol.name.value, funcName));
             if (attachedType.tag == TypeTags.OBJECT || attachedType.tag == TypeTags.RECORD) {
-                scopeToDefine = attachedType.tsymbol.scope;
                 // todo: Define resource function from BIR
                 BAttachedFunction attachedFunc =
                         new BAttachedFunction(names.fromString(funcName), invokableSymbol, funcType,
@@ -447,7 +499,7 @@ public class BIRPackageSymbolEnter {
 
         dataInStream.skip(dataInStream.readLong()); // read and skip method body
 
-        scopeToDefine.define(invokableSymbol.name, invokableSymbol);
+        return invokableSymbol;
     }
 
     private void defineGlobalVarDependencies(BInvokableSymbol invokableSymbol, DataInputStream dataInStream)
@@ -456,7 +508,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -782,7 +834,7 @@ public class BIRPackageSymbolEnter {
             }
         }
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
 
@@ -1014,6 +1066,8 @@ public class BIRPackageSymbolEnter {
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
+        byte[] programFileContent;
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
 
         BIRPackageSymbolEnv() {
             this.unresolvedTypes = new ArrayList<>();
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.wso2.ballerinalang.compiler.semantics.model.Scope.NOT_FOUND_ENTRY;
+
+/**
+ * Entries of the scope of a module loaded from its BIR, where the module level functions are defined only when they
+ * are used.
+ * <p>
+ * A function is registered with an entry without a symbol, and the offset of the function in the BIR. The symbol is
+ * read from the BIR when the entry is looked up by its name, or when the entries are iterated. The entry is
+ * registered in the same order the function would have been defined, hence the order of the entries does not change.
+ * <p>
+ * Scopes of dependencies are looked up from the code generation threads as well. A function is defined while holding
+ * the given lock, since reading it changes the state of the {@link BIRPackageSymbolEnter}. The offset of the function
+ * is removed only after its symbol is set, so that a thread which does not find the offset always sees the symbol.
+ *
+ * @since 2.0.0
+ */
+class LazyScopeEntries extends LinkedHashMap<Name, Scope.ScopeEntry> {
+
+    private final Object lock;
+    private final IntFunction<BSymbol> functionDefiner;
+    private final Map<Name, Integer> functionOffsets = new ConcurrentHashMap<>();
+    private final Set<Name> definingFunctions = new HashSet<>();
+
+    LazyScopeEntries(Object lock, IntFunction<BSymbol> functionDefiner) {
+        this.lock = lock;
+        this.functionDefiner = functionDefiner;
+    }
+
+    /**
+     * Registers a function, which is defined from the given offset when it is used.
+     *
+     * @param funcName name of the function
+     * @param offset   offset of the function in the BIR
+     */
+    void defineLazily(Name funcName, int offset) {
+        define(funcName);
+        Scope.ScopeEntry current = super.get(funcName);
+        super.put(funcName, new Scope.ScopeEntry(null, current == null ? NOT_FOUND_ENTRY : current));
+        functionOffsets.put(funcName, offset);
+    }
+
+    private void define(Object name) {
+        if (name == null || functionOffsets.isEmpty() || !functionOffsets.containsKey(name)) {
+            return;
+        }
+        synchronized (lock) {
+            Integer offset = functionOffsets.get(name);
+            // A function which refers to itself while it is being read gets the entry without the symbol
+            if (offset == null || !definingFunctions.add((Name) name)) {
+                return;
+            }
+            try {
+                super.get(name).symbol = functionDefiner.apply(offset);
+                functionOffsets.remove(name);
+            } finally {
+                definingFunctions.remove(name);
+            }
+        }
+    }
+
+    private void defineAll() {
+        if (functionOffsets.isEmpty()) {
+            return;
+        }
+        for (Name name : new ArrayList<>(functionOffsets.keySet())) {
+            define(name);
+        }
+    }
+
+    @Override
+    public Scope.ScopeEntry get(Object key) {
+        define(key);
+        return super.get(key);
+    }
+
+    @Override
+    public Scope.ScopeEntry getOrDefault(Object key, Scope.ScopeEntry defaultValue) {
+        define(key);
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Scope.ScopeEntry put(Name key, Scope.ScopeEntry value) {
+        define(key);
+        return super.put(key, value);
+    }
+
+    @Override
+    public Scope.ScopeEntry putIfAbsent(Name key, Scope.ScopeEntry value) {
+        define(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Scope.ScopeEntry remove(Object key) {
+        define(key);
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        define(key);
+        return super.remove(key, value);
+    }
+
+    @Override
+    public Scope.ScopeEntry replace(Name key, Scope.ScopeEntry value) {
+        define(key);
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(Name key, Scope.ScopeEntry oldValue, Scope.ScopeEntry newValue) {
+        define(key);
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Scope.ScopeEntry computeIfAbsent(Name key,
+                                            Function<? super Name, ? extends Scope.ScopeEntry> mappingFunction) {
+        define(key);
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Scope.ScopeEntry computeIfPresent(Name key, BiFunction<? super Name, ? super Scope.ScopeEntry,
+            ? extends Scope.ScopeEntry> remappingFunction) {
+        define(key);
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Scope.ScopeEntry compute(Name key, BiFunction<? super Name, ? super Scope.ScopeEntry,
+            ? extends Scope.ScopeEntry> remappingFunction) {
+        define(key);
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Scope.ScopeEntry merge(Name key, Scope.ScopeEntry value, BiFunction<? super Scope.ScopeEntry,
+            ? super Scope.ScopeEntry, ? extends Scope.ScopeEntry> remappingFunction) {
+        define(key);
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        defineAll();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Collection<Scope.ScopeEntry> values() {
+        defineAll();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<Name, Scope.ScopeEntry>> entrySet() {
+        defineAll();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Name, ? super Scope.ScopeEntry> action) {
+        defineAll();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Name, ? super Scope.ScopeEntry,
+            ? extends Scope.ScopeEntry> function) {
+        defineAll();
+        super.replaceAll(function);
+    }
+}
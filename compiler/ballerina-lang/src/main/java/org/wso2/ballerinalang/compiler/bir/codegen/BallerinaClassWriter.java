@@ -20,15 +20,37 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.objectweb.asm.ClassWriter;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class Writer for generating ballerina classes.
  * <p>
+ * Classes whose methods are straight-line code, or whose frames are written by the generator as in
+ * {@code ConfigMethodGen}, are written with {@link ClassWriter#COMPUTE_MAXS}. Frames of module and value classes are
+ * not written from BIR, hence these classes are written with {@link ClassWriter#COMPUTE_FRAMES}. Their frames depend
+ * on the JVM types of the locals and the operand stack at every branch, including the yield and resume states and
+ * the error handlers, and are computed by ASM, which resolves the common super classes through this writer.
+ * <p>
  * since 1.2.0
  */
 public class BallerinaClassWriter extends ClassWriter {
 
     private static final String OBJECT_CLASS = "java/lang/Object";
 
+    /**
+     * Maximum number of class names kept in {@link #RESOLVED_CLASSES}. The names are discarded once the limit is
+     * reached, so that names of generated classes do not pile up in long running compilers.
+     */
+    private static final int MAX_RESOLVED_CLASSES = 4096;
+
+    /**
+     * Classes resolved while computing frames, by their internal names. Generated classes cannot be loaded, hence
+     * they are kept as empty, so that the class loader is not asked for them again.
+     */
+    private static final Map<String, Optional<Class<?>>> RESOLVED_CLASSES = new ConcurrentHashMap<>();
+
     public BallerinaClassWriter(int flags) {
         super(flags);
     }
@@ -41,19 +63,13 @@ public class BallerinaClassWriter extends ClassWriter {
     @Override
     protected String getCommonSuperClass(String type1, String type2) {
 
-        ClassLoader classLoader = getClassLoader();
-        Class<?> class1;
-
-        try {
-            class1 = Class.forName(type1.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Class<?> class1 = resolveClass(type1);
+        if (class1 == null) {
             return OBJECT_CLASS;
         }
 
-        Class<?> class2;
-        try {
-            class2 = Class.forName(type2.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Class<?> class2 = resolveClass(type2);
+        if (class2 == null) {
             return OBJECT_CLASS;
         }
 
@@ -72,4 +88,24 @@ public class BallerinaClassWriter extends ClassWriter {
 
         return class1.getName().replace('.', '/');
     }
+
+    private Class<?> resolveClass(String type) {
+        Optional<Class<?>> resolvedClass = RESOLVED_CLASSES.get(type);
+        if (resolvedClass == null) {
+            if (RESOLVED_CLASSES.size() >= MAX_RESOLVED_CLASSES) {
+                RESOLVED_CLASSES.clear();
+            }
+            resolvedClass = loadClass(type);
+            RESOLVED_CLASSES.put(type, resolvedClass);
+        }
+        return resolvedClass.orElse(null);
+    }
+
+    private Optional<Class<?>> loadClass(String type) {
+        try {
+            return Optional.of(Class.forName(type.replace('/', '.'), false, getClassLoader()));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -98,7 +98,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_VALUE
  * The common functions used in CodeGen.
  */
 public class JvmCodeGenUtil {
-    public static final Unifier UNIFIER = new Unifier();
+    // Unifier keeps the state of the type being built, hence each code generation thread gets its own instance
+    public static final ThreadLocal<Unifier> UNIFIER = ThreadLocal.withInitial(Unifier::new);
     public static final String INITIAL_METHOD_DESC = String.format("(L%s;", STRAND_CLASS);
     private static final Pattern JVM_RESERVED_CHAR_SET = Pattern.compile("[\\.:/<>]");
     public static final String SCOPE_PREFIX = "_SCOPE_";
@@ -382,7 +383,7 @@ public class JvmCodeGenUtil {
             return String.format(")L%s;", OBJECT);
         }
 
-        bType = JvmCodeGenUtil.UNIFIER.build(bType);
+        bType = JvmCodeGenUtil.UNIFIER.get().build(bType);
         if (bType == null || bType.tag == TypeTags.NIL || bType.tag == TypeTags.NEVER) {
             return String.format(")L%s;", OBJECT);
         } else if (TypeTags.isIntegerTypeTag(bType.tag)) {
@@ -158,6 +158,7 @@ public class JvmConstants {
 
     // other jvm-specific classes
     public static final String TYPE_CHECKER = "io/ballerina/runtime/internal/TypeChecker";
+    public static final String TYPE_CHECK_CACHE = "io/ballerina/runtime/internal/TypeCheckCache";
     public static final String SCHEDULER = "io/ballerina/runtime/internal/scheduling/Scheduler";
     public static final String JSON_UTILS = "io/ballerina/runtime/internal/JsonUtils";
     public static final String STRAND_CLASS = "io/ballerina/runtime/internal/scheduling/Strand";
@@ -19,6 +19,8 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.runtime.api.utils.IdentifierUtils;
+import io.ballerina.tools.diagnostics.DiagnosticCode;
+import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
@@ -61,7 +63,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
-import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -73,6 +74,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
@@ -119,8 +121,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static Unifier unifier;
-
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final MethodGen methodGen;
@@ -132,8 +132,12 @@ public class JvmPackageGen {
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
     private final BLangDiagnosticLog dlog;
+    // Errors are counted per package gen instance, since other modules may be generated at the same time
+    private final AtomicInteger errorCount;
+    private final PackageID currentPackageId;
 
-    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
+    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog,
+                  PackageID currentPackageId) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
@@ -141,11 +145,12 @@ public class JvmPackageGen {
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
+        this.errorCount = new AtomicInteger();
+        this.currentPackageId = currentPackageId;
         methodGen = new MethodGen(this);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
         frameClassGen = new FrameClassGen();
-        unifier = new Unifier();
 
         JvmInstructionGen.anyType = symbolTable.anyType;
     }
@@ -350,7 +355,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = unifier.build(retType);
+            retType = JvmCodeGenUtil.UNIFIER.get().build(retType);
         }
 
         String jvmMethodDescription;
@@ -553,7 +558,7 @@ public class JvmPackageGen {
                             getBirFunctionWrapper(isEntry, module.packageID, func, className, lookupKey);
                     birFunctionMap.put(pkgName + lookupKey, birFuncWrapperOrError);
                 } catch (JInteropException e) {
-                    dlog.error(func.pos, e.getCode(), e.getMessage());
+                    logError(func.pos, e.getCode(), e.getMessage());
                 }
             }
         }
@@ -636,7 +641,7 @@ public class JvmPackageGen {
                                                                                  birFuncName);
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
             } catch (JInteropException e) {
-                dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                logError(birFunc.pos, e.getCode(), e.getMessage());
             }
         }
     }
@@ -669,11 +674,11 @@ public class JvmPackageGen {
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
-            dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
+            logError(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(func.name.value));
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
+            logError(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(e.getClassName()));
             result = new byte[0];
         } catch (Throwable e) {
@@ -683,6 +688,11 @@ public class JvmPackageGen {
         return result;
     }
 
+    private void logError(Location location, DiagnosticCode code, Object... args) {
+        errorCount.incrementAndGet();
+        dlog.error(currentPackageId, location, code, args);
+    }
+
     private void clearPackageGenInfo() {
         birFunctionMap.clear();
         globalVarClassMap.clear();
@@ -752,7 +762,7 @@ public class JvmPackageGen {
             BPackageSymbol pkgSymbol = packageCache.getSymbol(
                     getBvmAlias(importModule.packageID.orgName.value, importModule.packageID.name.value));
             generateDependencyList(pkgSymbol);
-            if (dlog.errorCount() > 0) {
+            if (errorCount.get() > 0) {
                 return new CompiledJarFile(Collections.emptyMap());
             }
             serviceEPAvailable |= listenerDeclarationFound(pkgSymbol);
@@ -760,7 +770,7 @@ public class JvmPackageGen {
         String moduleInitClass = JvmCodeGenUtil.getModuleLevelClassName(module.packageID, MODULE_INIT_CLASS_NAME);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, moduleInitClass, isEntry);
 
-        if (!isEntry || dlog.errorCount() > 0) {
+        if (!isEntry || errorCount.get() > 0) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
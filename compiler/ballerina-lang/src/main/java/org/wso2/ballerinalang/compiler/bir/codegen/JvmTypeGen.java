@@ -192,6 +192,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_ERROR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CHECK_CACHE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNION_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNION_TYPE_IMPL;
@@ -279,6 +280,9 @@ public class JvmTypeGen {
             mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, funcName, "()V", false);
         }
 
+        // Discard the type check results of the types before they were populated
+        mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECK_CACHE, "invalidate", "()V", false);
+
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
@@ -354,8 +358,9 @@ public class JvmTypeGen {
                     mv.visitTypeInsn(CHECKCAST, RECORD_TYPE_IMPL);
                     mv.visitInsn(DUP);
                     mv.visitInsn(DUP);
-                    addRecordFields(mv, recordType.fields);
+                    // The rest field is set first, since setting the fields discards the cached type checks
                     addRecordRestField(mv, recordType.restFieldType);
+                    addRecordFields(mv, recordType.fields);
                     addImmutableType(mv, recordType);
                     break;
                 case TypeTags.OBJECT:
@@ -24,7 +24,7 @@ import org.objectweb.asm.MethodVisitor;
 
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -47,7 +47,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ST
 public class ShutDownListenerGen {
     void generateShutdownSignalListener(String initClass, Map<String, byte[]> jarEntries) {
         String innerClassName = initClass + "$SignalListener";
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_MAXS);
         cw.visit(V1_8, ACC_SUPER, innerClassName, null, JAVA_THREAD, null);
         FieldVisitor fv = cw.visitField(ACC_PRIVATE, JvmConstants.LISTENER_REGISTRY_VARIABLE,
                                         String.format("L%s;", JvmConstants.LISTENER_REGISTRY_CLASS), null, null);
@@ -37,7 +37,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -50,6 +50,7 @@ import static org.objectweb.asm.Opcodes.ARRAYLENGTH;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.F_NEW;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
@@ -84,12 +85,22 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VARIABLE_
  * @since 2.0.0
  */
 public class ConfigMethodGen {
+
+    /**
+     * Types of the locals of the configuration init method, i.e. the parameters, the map of configuration data by
+     * module and the configuration data of a module.
+     */
+    private static final Object[] CONFIG_INIT_LOCALS = {
+            "[L" + STRING_VALUE + ";", "[L" + PATH + ";", STRING_VALUE, STRING_VALUE, HASH_MAP,
+            "[L" + VARIABLE_KEY + ";"
+    };
+
     String innerClassName;
 
     public void generateConfigMapper(List<PackageID> imprtMods, BIRNode.BIRPackage pkg, String moduleInitClass,
                                      JvmBStringConstantsGen stringConstantsGen, Map<String, byte[]> jarEntries) {
         innerClassName = JvmCodeGenUtil.getModuleLevelClassName(pkg.packageID, CONFIGURATION_CLASS_NAME);
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_MAXS);
         cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, innerClassName, null, OBJECT, null);
 
         MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, JVM_INIT_METHOD, "()V", null, null);
@@ -155,6 +166,8 @@ public class ConfigMethodGen {
         mv.visitMethodInsn(INVOKEINTERFACE, MAP, "put", String.format("(L%s;L%s;)L%s;", OBJECT, OBJECT, OBJECT), true);
         mv.visitInsn(POP);
         mv.visitLabel(elseLabel);
+        // The class is written without computing frames, since the types of the locals are known at the only branch
+        mv.visitFrame(F_NEW, CONFIG_INIT_LOCALS.length, CONFIG_INIT_LOCALS, 0, null);
     }
 
     private void populateConfigDataMethod(ClassWriter cw, String moduleClass,
@@ -263,7 +263,7 @@ public class MethodGen {
     private BType getReturnType(BIRFunction func) {
         BType retType = func.type.retType;
         if (JvmCodeGenUtil.isExternFunc(func) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.UNIFIER.build(func.type.retType);
+            retType = JvmCodeGenUtil.UNIFIER.get().build(func.type.retType);
         }
         return retType;
     }
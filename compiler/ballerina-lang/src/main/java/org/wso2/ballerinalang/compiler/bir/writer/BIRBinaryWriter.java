@@ -82,7 +82,7 @@ public class BIRBinaryWriter {
         // Write type def bodies
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
         // Write functions
-        writeFunctions(birbuf, typeWriter, birPackage.functions);
+        writeIndexedFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
         // Write service declarations
@@ -189,6 +189,30 @@ public class BIRBinaryWriter {
         birFunctionList.forEach(func -> writeFunction(buf, typeWriter, func));
     }
 
+    /**
+     * Write the package level functions. Each function is preceded by its name and the length of the function, so
+     * that a function could be skipped without reading it, and read later only if it is used.
+     *
+     * @param buf ByteBuf
+     * @param typeWriter Type writer
+     * @param birFunctionList Functions list
+     */
+    private void writeIndexedFunctions(ByteBuf buf, BIRTypeWriter typeWriter,
+                                       List<BIRNode.BIRFunction> birFunctionList) {
+        buf.writeInt(birFunctionList.size());
+        for (BIRNode.BIRFunction birFunction : birFunctionList) {
+            ByteBuf funcBuf = Unpooled.buffer();
+            writeFunction(funcBuf, typeWriter, birFunction);
+
+            // Function name CP Index
+            buf.writeInt(addStringCPEntry(birFunction.name.value));
+            // Write length of the function so that it can be skipped easily.
+            int length = funcBuf.nioBuffer().limit();
+            buf.writeLong(length);
+            buf.writeBytes(funcBuf.nioBuffer().array(), 0, length);
+        }
+    }
+
     private void writeFunction(ByteBuf buf, BIRTypeWriter typeWriter, BIRNode.BIRFunction birFunction) {
 
         // Write Position
@@ -452,7 +452,13 @@ public class Desugar extends BLangNodeVisitor {
         annotationDesugar.initializeAnnotationMap(pkgNode);
         SymbolEnv env = this.symTable.pkgEnvMap.get(pkgNode.symbol);
         this.globalVariablesDependsOn = env.enclPkg.globalVariableDependencies;
-        return rewrite(pkgNode, env);
+        // Types are changed in place while the package is desugared, hence type check results are not reused
+        types.suspendRelationCache();
+        try {
+            return rewrite(pkgNode, env);
+        } finally {
+            types.resumeRelationCache();
+        }
     }
 
     private void addAttachedFunctionsToPackageLevel(BLangPackage pkgNode, SymbolEnv env) {
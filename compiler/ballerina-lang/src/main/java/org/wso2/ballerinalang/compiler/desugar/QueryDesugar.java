@@ -21,6 +21,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -199,6 +200,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
+    private static final Name QUERY_USE_INDEX_FOR_FILTER_FUNCTION = new Name("useIndexForFilter");
+    private static final Name QUERY_USE_INDEX_FOR_JOIN_FUNCTION = new Name("useIndexForJoin");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
@@ -324,6 +327,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
                 initFromClause.collection, resultType);
+        if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            addIndexedFilterHint(block, initPipeline, initFromClause, (BLangWhereClause) clauses.get(1));
+        }
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -339,6 +345,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
                             joinClause.collection, resultType);
+                    addIndexedJoinHint(block, joinPipeline, joinClause);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
                     BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
@@ -519,6 +526,136 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Desugar the where clause which directly follows the initial from clause to below, for each equality between a
+     * field of the from variable and a literal or a variable from outside the query, which must hold for the
+     * condition to be true.
+     * useIndexForFilter(pipeline, "deptId", function (_Frame frame) returns any {
+     * return deptId;
+     * });
+     * The pipeline looks up the matching members in a secondary index of the table, if the table has one on that
+     * field. The where clause is still applied to the members found through the index.
+     *
+     * @param blockStmt   parent block to write to.
+     * @param pipelineRef variableReference to the pipeline of the from clause.
+     * @param fromClause  initial from clause.
+     * @param whereClause where clause following the from clause.
+     */
+    void addIndexedFilterHint(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef,
+                              BLangFromClause fromClause, BLangWhereClause whereClause) {
+        BSymbol varSymbol = getIndexableInputVariableSymbol(fromClause);
+        if (varSymbol != null) {
+            addIndexedFilterHint(blockStmt, pipelineRef, varSymbol, whereClause.expression);
+        }
+    }
+
+    private void addIndexedFilterHint(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef,
+                                      BSymbol varSymbol, BLangExpression condition) {
+        if (condition.getKind() == NodeKind.GROUP_EXPR) {
+            addIndexedFilterHint(blockStmt, pipelineRef, varSymbol, ((BLangGroupExpr) condition).expression);
+            return;
+        }
+        if (condition.getKind() != NodeKind.BINARY_EXPR) {
+            return;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        if (binaryExpr.opKind == OperatorKind.AND) {
+            // Any of the equalities can narrow down the members, the pipeline uses the first indexed one.
+            addIndexedFilterHint(blockStmt, pipelineRef, varSymbol, binaryExpr.lhsExpr);
+            addIndexedFilterHint(blockStmt, pipelineRef, varSymbol, binaryExpr.rhsExpr);
+            return;
+        }
+        if (binaryExpr.opKind != OperatorKind.EQUAL) {
+            return;
+        }
+        String fieldName = getIndexableFieldName(binaryExpr.lhsExpr, varSymbol);
+        BLangExpression keyExpr = copyIndexKeyExpression(binaryExpr.rhsExpr, varSymbol);
+        if (fieldName == null || keyExpr == null) {
+            fieldName = getIndexableFieldName(binaryExpr.rhsExpr, varSymbol);
+            keyExpr = copyIndexKeyExpression(binaryExpr.lhsExpr, varSymbol);
+        }
+        if (fieldName == null || keyExpr == null) {
+            return;
+        }
+        Location pos = binaryExpr.pos;
+        BLangLiteral fieldNameLiteral = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName);
+        BLangLambdaFunction keyFunction = createKeyFunction(keyExpr);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pos, blockStmt);
+        stmt.expr = createQueryLibInvocation(QUERY_USE_INDEX_FOR_FILTER_FUNCTION,
+                Lists.of(pipelineRef, fieldNameLiteral, keyFunction), pos);
+    }
+
+    /**
+     * Desugar the join clause to below, if the right hand side of the on clause is a field of the join variable.
+     * useIndexForJoin(joinPipeline, "id");
+     * The join function then looks up the members to join in a secondary index of the table, if the table has one
+     * on that field, instead of building a hash map of all the members.
+     *
+     * @param blockStmt    parent block to write to.
+     * @param joinPipeline variableReference to the pipeline of the join clause.
+     * @param joinClause   join clause.
+     */
+    void addIndexedJoinHint(BLangBlockStmt blockStmt, BLangVariableReference joinPipeline,
+                            BLangJoinClause joinClause) {
+        BSymbol varSymbol = getIndexableInputVariableSymbol(joinClause);
+        if (varSymbol == null) {
+            return;
+        }
+        String fieldName = getIndexableFieldName((BLangExpression) joinClause.onClause.getRightExpression(),
+                varSymbol);
+        if (fieldName == null) {
+            return;
+        }
+        Location pos = joinClause.pos;
+        BLangLiteral fieldNameLiteral = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pos, blockStmt);
+        stmt.expr = createQueryLibInvocation(QUERY_USE_INDEX_FOR_JOIN_FUNCTION,
+                Lists.of(joinPipeline, fieldNameLiteral), pos);
+    }
+
+    private BSymbol getIndexableInputVariableSymbol(BLangInputClause inputClause) {
+        if (inputClause.collection.type.tag != TypeTags.TABLE) {
+            return null;
+        }
+        BLangVariable variable = (BLangVariable) inputClause.variableDefinitionNode.getVariable();
+        if (variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        return ((BLangSimpleVariable) variable).symbol;
+    }
+
+    private String getIndexableFieldName(BLangExpression expr, BSymbol varSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccessExpr = (BLangFieldBasedAccess) expr;
+        if (fieldAccessExpr.optionalFieldAccess || fieldAccessExpr.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccessExpr.expr).symbol != varSymbol) {
+            return null;
+        }
+        return fieldAccessExpr.field.value;
+    }
+
+    private BLangExpression copyIndexKeyExpression(BLangExpression expr, BSymbol varSymbol) {
+        if (expr instanceof BLangLiteral) {
+            BLangLiteral literal = (BLangLiteral) expr;
+            return ASTBuilderUtil.createLiteral(literal.pos, literal.type, literal.value);
+        }
+        if (expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+            return null;
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+        if (symbol == null || symbol == varSymbol) {
+            return null;
+        }
+        // Only variables defined outside the query can be evaluated before the members are iterated.
+        BSymbol resolvedSymbol = symResolver.lookupClosureVarSymbol(env, symbol.name, SymTag.VARIABLE);
+        if (resolvedSymbol != symbol) {
+            return null;
+        }
+        return ASTBuilderUtil.createVariableRef(expr.pos, symbol);
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
@@ -63,7 +63,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private static final String HINT_PREFIX = "hint";
     private static final ResourceBundle MESSAGES = ResourceBundle.getBundle("compiler", Locale.getDefault());
 
-    private int errorCount = 0;
+    private volatile int errorCount = 0;
     private PackageCache packageCache;
     private TypesFactory typesFactory;
     private SymbolFactory symbolFactory;
@@ -102,6 +102,20 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic((ModuleDescriptor) null, code, location, msg, DiagnosticSeverity.ERROR, args);
     }
 
+    /**
+     * Log an error against the given package, instead of the current package. This is used by phases which run
+     * for more than one package at a time, such as the parallel code generation.
+     *
+     * @param pkgId Package ID of the error
+     * @param location Location of the error in the source code.
+     * @param code Error code
+     * @param args Parameters associated with the error
+     */
+    public void error(PackageID pkgId, Location location, DiagnosticCode code, Object... args) {
+        String msg = formatMessage(ERROR_PREFIX, code, args);
+        reportDiagnostic(pkgId, code, location, msg, DiagnosticSeverity.ERROR, args);
+    }
+
     /**
      * Log a warning.
      *
@@ -204,7 +218,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -230,8 +244,9 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic(pkgId, diagnosticCode, location, msg, severity, args);
     }
 
-    private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
-                                  String msg, DiagnosticSeverity severity, Object[] args) {
+    private synchronized void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode,
+                                               Location location, String msg, DiagnosticSeverity severity,
+                                               Object[] args) {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -312,8 +312,14 @@ public class SymbolEnter extends BLangNodeVisitor {
         // imports.
         importedPackages.add(pkgNode.packageID);
 
-        defineConstructs(pkgNode, pkgEnv);
-        pkgNode.getTestablePkgs().forEach(testablePackage -> defineTestablePackage(testablePackage, pkgEnv));
+        // Types of the package are being completed, hence type check results should not be reused until then
+        types.suspendRelationCache();
+        try {
+            defineConstructs(pkgNode, pkgEnv);
+            pkgNode.getTestablePkgs().forEach(testablePackage -> defineTestablePackage(testablePackage, pkgEnv));
+        } finally {
+            types.resumeRelationCache();
+        }
         pkgNode.completedPhases.add(CompilerPhase.DEFINE);
 
         // After we have visited a package node, we need to remove it from the imports list.
@@ -3733,6 +3733,7 @@ public class TypeChecker extends BLangNodeVisitor {
                     currentExpectedType, eventualType, varName);
         }
         futureType.constraint = eventualType;
+        types.invalidateRelationCache();
     }
 
     private void setEventualTypeForWaitExpression(BLangSimpleVarRef expression,
@@ -3766,6 +3767,7 @@ public class TypeChecker extends BLangNodeVisitor {
         }
         if (resultType.tag == TypeTags.FUTURE) {
             ((BFutureType) resultType).constraint = eventualType;
+            types.invalidateRelationCache();
         } else {
             resultType = eventualType;
         }
@@ -3802,6 +3804,7 @@ public class TypeChecker extends BLangNodeVisitor {
         }
         if (resultType.tag == TypeTags.FUTURE) {
             ((BFutureType) resultType).constraint = eventualType;
+            types.invalidateRelationCache();
         } else {
             resultType = eventualType;
         }
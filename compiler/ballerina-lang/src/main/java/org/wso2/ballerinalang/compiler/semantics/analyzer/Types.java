@@ -103,6 +103,7 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -152,6 +153,14 @@ public class Types {
     private int recordCount = 0;
     private SymbolEnv env;
 
+    /**
+     * Results of {@link #isSameType(BType, BType)} and {@link #isAssignable(BType, BType)}, which are reused for the
+     * same pair of types until the cache is invalidated by a phase which changes types in place.
+     */
+    private final Map<CachedTypePair, Boolean> sameTypeCache = new HashMap<>();
+    private final Map<CachedTypePair, Boolean> assignableCache = new HashMap<>();
+    private int relationCacheSuspensions = 0;
+
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
         if (types == null) {
@@ -301,7 +310,48 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        CachedTypePair pair = getCachedTypePair(source, target);
+        if (pair == null) {
+            return isSameType(source, target, new HashSet<>());
+        }
+        Boolean cachedResult = sameTypeCache.get(pair);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        // Only results checked without assuming any unresolved type pairs are cached, since the results of the
+        // nested checks of recursive types depend on the pairs which are being resolved.
+        boolean result = isSameType(source, target, new HashSet<>());
+        sameTypeCache.put(pair, result);
+        return result;
+    }
+
+    /**
+     * Stops caching the results of type checks, and discards the cached results. Types are completed while they are
+     * defined, hence results are not cached until {@link #resumeRelationCache()} is called.
+     */
+    public void suspendRelationCache() {
+        relationCacheSuspensions++;
+        invalidateRelationCache();
+    }
+
+    public void resumeRelationCache() {
+        relationCacheSuspensions--;
+    }
+
+    /**
+     * Discards the cached results of type checks. This must be called after a type which may have been checked is
+     * changed in place.
+     */
+    public void invalidateRelationCache() {
+        sameTypeCache.clear();
+        assignableCache.clear();
+    }
+
+    private CachedTypePair getCachedTypePair(BType source, BType target) {
+        if (relationCacheSuspensions > 0 || source == null || target == null) {
+            return null;
+        }
+        return new CachedTypePair(source, target);
     }
 
     public boolean isSameOrderedType(BType source, BType target) {
@@ -626,7 +676,17 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        CachedTypePair pair = getCachedTypePair(source, target);
+        if (pair == null) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+        Boolean cachedResult = assignableCache.get(pair);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = isAssignable(source, target, new HashSet<>());
+        assignableCache.put(pair, result);
+        return result;
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
@@ -2903,7 +2963,7 @@ public class Types {
     }
 
     private boolean checkFieldEquivalency(BRecordType lhsType, BRecordType rhsType, Set<TypePair> unresolvedTypes) {
-        Map<String, BField> rhsFields = new LinkedHashMap<>(rhsType.fields);
+        Map<String, BField> rhsFields = rhsType.fields;
 
         // Check if the RHS record has corresponding fields to those of the LHS record.
         for (BField lhsField : lhsType.fields.values()) {
@@ -2929,12 +2989,15 @@ public class Types {
             if (!isAssignable(rhsField.type, lhsField.type, unresolvedTypes)) {
                 return false;
             }
-
-            rhsFields.remove(lhsField.name.value);
         }
 
+        // The remaining RHS fields are the ones which do not have a corresponding LHS field. These are skipped by
+        // name instead of copying the RHS fields, since records could have a large number of fields.
         if (lhsType.sealed) {
             for (BField field : rhsFields.values()) {
+                if (lhsType.fields.containsKey(field.name.value)) {
+                    continue;
+                }
                 if (!isNeverTypeOrStructureTypeWithARequiredNeverMember(field.type)) {
                     return false;
                 }
@@ -2946,6 +3009,9 @@ public class Types {
         // the LHS record.
         BType lhsRestFieldType = lhsType.restFieldType;
         for (BField field : rhsFields.values()) {
+            if (lhsType.fields.containsKey(field.name.value)) {
+                continue;
+            }
             if (!isAssignable(field.type, lhsRestFieldType, unresolvedTypes)) {
                 return false;
             }
@@ -4944,6 +5010,35 @@ public class Types {
         }
     }
 
+    /**
+     * A pair of types which the result of a type check is cached for. Types are compared by identity, since types
+     * which are changed in place invalidate the cache.
+     */
+    private static class CachedTypePair {
+        private final BType sourceType;
+        private final BType targetType;
+
+        CachedTypePair(BType sourceType, BType targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CachedTypePair)) {
+                return false;
+            }
+
+            CachedTypePair other = (CachedTypePair) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+
     /**
      * A functional interface for parameterizing the type of type checking that needs to be done on the source and
      * target types.
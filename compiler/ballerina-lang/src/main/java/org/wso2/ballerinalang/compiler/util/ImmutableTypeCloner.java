@@ -194,8 +194,15 @@ public class ImmutableTypeCloner {
             return immutableType;
         }
 
-        return ImmutableTypeCloner.setImmutableType(pos, types, type, env, pkgId, owner, symTable,
-                                                    anonymousModelHelper, names, origObjFlagSet, unresolvedTypes);
+        immutableType = ImmutableTypeCloner.setImmutableType(pos, types, type, env, pkgId, owner, symTable,
+                                                             anonymousModelHelper, names, origObjFlagSet,
+                                                             unresolvedTypes);
+        // The immutable type is set on a type which may have been checked already. The symbol table creates the
+        // immutable types of the builtin types before any type is checked.
+        if (types != null) {
+            types.invalidateRelationCache();
+        }
+        return immutableType;
     }
 
     private static BIntersectionType setImmutableType(Location pos, Types types,
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
+
+/**
+ * Tests for {@link LazyScopeEntries}, the scope entries of modules loaded from their BIR.
+ *
+ * @since 2.0.0
+ */
+public class LazyScopeEntriesTest {
+
+    @Test
+    public void testFunctionDefinedOnLookup() {
+        List<Integer> definedOffsets = new ArrayList<>();
+        LazyScopeEntries entries = new LazyScopeEntries(new Object(), offset -> {
+            definedOffsets.add(offset);
+            return createSymbol("f" + offset);
+        });
+        entries.defineLazily(new Name("f10"), 10);
+        entries.defineLazily(new Name("f20"), 20);
+
+        Assert.assertTrue(definedOffsets.isEmpty());
+        Assert.assertTrue(entries.containsKey(new Name("f20")));
+        Assert.assertTrue(definedOffsets.isEmpty());
+
+        Scope.ScopeEntry entry = entries.get(new Name("f20"));
+        Assert.assertEquals(entry.symbol.name.value, "f20");
+        Assert.assertEquals(entry.next, Scope.NOT_FOUND_ENTRY);
+        Assert.assertEquals(definedOffsets, List.of(20));
+
+        // Looking up the same function again does not define it again
+        Assert.assertSame(entries.get(new Name("f20")), entry);
+        Assert.assertEquals(definedOffsets, List.of(20));
+    }
+
+    @Test
+    public void testEntryOrderIsPreserved() {
+        LazyScopeEntries entries = new LazyScopeEntries(new Object(), offset -> createSymbol("f" + offset));
+        entries.put(new Name("T"), new Scope.ScopeEntry(createSymbol("T"), Scope.NOT_FOUND_ENTRY));
+        entries.defineLazily(new Name("f1"), 1);
+        entries.put(new Name("C"), new Scope.ScopeEntry(createSymbol("C"), Scope.NOT_FOUND_ENTRY));
+        entries.defineLazily(new Name("f2"), 2);
+        entries.put(new Name("A"), new Scope.ScopeEntry(createSymbol("A"), Scope.NOT_FOUND_ENTRY));
+
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<Name, Scope.ScopeEntry> entry : entries.entrySet()) {
+            Assert.assertNotNull(entry.getValue().symbol, "symbol of '" + entry.getKey() + "' is not defined");
+            Assert.assertEquals(entry.getValue().symbol.name, entry.getKey());
+            names.add(entry.getKey().value);
+        }
+        Assert.assertEquals(names, List.of("T", "f1", "C", "f2", "A"));
+    }
+
+    @Test
+    public void testRedefinedFunctionKeepsPreviousEntry() {
+        LazyScopeEntries entries = new LazyScopeEntries(new Object(), offset -> createSymbol("f"));
+        Scope.ScopeEntry previous = new Scope.ScopeEntry(createSymbol("f"), Scope.NOT_FOUND_ENTRY);
+        entries.put(new Name("f"), previous);
+        entries.defineLazily(new Name("f"), 5);
+
+        Scope.ScopeEntry entry = entries.get(new Name("f"));
+        Assert.assertNotSame(entry, previous);
+        Assert.assertNotNull(entry.symbol);
+        Assert.assertSame(entry.next, previous);
+    }
+
+    @Test
+    public void testConcurrentLookupDefinesFunctionOnce() throws Exception {
+        int functionCount = 200;
+        AtomicInteger definitions = new AtomicInteger();
+        Object lock = new Object();
+        LazyScopeEntries entries = new LazyScopeEntries(lock, offset -> {
+            // The definer is always called while holding the lock
+            Assert.assertTrue(Thread.holdsLock(lock));
+            definitions.incrementAndGet();
+            return createSymbol("f" + offset);
+        });
+        for (int i = 0; i < functionCount; i++) {
+            entries.defineLazily(new Name("f" + i), i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int i = functionCount - 1; i >= 0; i--) {
+                        BSymbol symbol = entries.get(new Name("f" + i)).symbol;
+                        if (symbol == null || !symbol.name.value.equals("f" + i)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(definitions.get(), functionCount);
+    }
+
+    private static BSymbol createSymbol(String name) {
+        return new BSymbol(SymTag.FUNCTION, 0, new Name(name), null, null, null, null, COMPILED_SOURCE);
+    }
+}
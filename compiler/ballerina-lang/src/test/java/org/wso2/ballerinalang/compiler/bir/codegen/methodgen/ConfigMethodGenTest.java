@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmBStringConstantsGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURATION_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURE_INIT;
+
+/**
+ * Tests for the configuration class generated by {@link ConfigMethodGen}, which is written without computing frames.
+ *
+ * @since 2.0.0
+ */
+public class ConfigMethodGenTest {
+
+    @Test
+    public void testConfigClassWithoutImports() throws Exception {
+        verifyConfigClass(0);
+    }
+
+    @Test
+    public void testConfigClassWithImports() throws Exception {
+        verifyConfigClass(3);
+    }
+
+    private void verifyConfigClass(int importCount) throws Exception {
+        BIRNode.BIRPackage pkg = createPackage("main");
+        List<PackageID> imports = new ArrayList<>();
+        for (int i = 0; i < importCount; i++) {
+            imports.add(createPackage("dep" + i).packageID);
+        }
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        new ConfigMethodGen().generateConfigMapper(imports, pkg, "testorg/main/0_1_0/$_init",
+                                                   new JvmBStringConstantsGen(pkg), jarEntries);
+
+        String className = JvmCodeGenUtil.getModuleLevelClassName(pkg.packageID, CONFIGURATION_CLASS_NAME);
+        byte[] classBytes = jarEntries.get(className + ".class");
+        Assert.assertNotNull(classBytes);
+
+        // The init method has a frame after the branch of each module
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.EXPAND_FRAMES);
+        MethodNode configInit = classNode.methods.stream()
+                .filter(method -> method.name.equals(CONFIGURE_INIT))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        int frameCount = 0;
+        for (AbstractInsnNode insn : configInit.instructions) {
+            if (insn instanceof FrameNode) {
+                frameCount++;
+                Assert.assertEquals(((FrameNode) insn).type, Opcodes.F_NEW);
+                Assert.assertEquals(((FrameNode) insn).local.size(), 6);
+                Assert.assertTrue(((FrameNode) insn).stack.isEmpty());
+            }
+        }
+        Assert.assertEquals(frameCount, importCount + 1);
+
+        // Linking the class runs the verifier, which fails if a frame does not match the code
+        Class<?> configClass = Class.forName(className.replace('/', '.'), true,
+                                             new GeneratedClassLoader(className.replace('/', '.'), classBytes));
+        Assert.assertEquals(configClass.getDeclaredMethods().length, 2);
+    }
+
+    private static BIRNode.BIRPackage createPackage(String name) {
+        return new BIRNode.BIRPackage(null, new Name("testorg"), new Name(name), new Name("0.1.0"),
+                                      new Name(name + ".bal"));
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final String className;
+        private final byte[] classBytes;
+
+        private GeneratedClassLoader(String className, byte[] classBytes) {
+            super(ConfigMethodGenTest.class.getClassLoader());
+            this.className = className;
+            this.classBytes = classBytes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classBytes, 0, classBytes.length);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
+
+/**
+ * Tests for the cached results of {@link Types#isAssignable(BType, BType)} and {@link Types#isSameType(BType, BType)}.
+ *
+ * @since 2.0.0
+ */
+public class TypesRelationCacheTest {
+
+    private SymbolTable symTable;
+    private Types types;
+
+    @BeforeClass
+    public void setup() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.PROJECT_API_INITIATED_COMPILATION, String.valueOf(true));
+        symTable = SymbolTable.getInstance(context);
+        types = Types.getInstance(context);
+    }
+
+    @Test
+    public void testCachedResultIsReused() {
+        BRecordType source = createRecord(true, null, field("a", symTable.intType));
+        BRecordType target = createRecord(false, symTable.anydataType, field("a", symTable.intType));
+
+        Assert.assertTrue(types.isAssignable(source, target));
+        Assert.assertTrue(types.isAssignable(source, target));
+        Assert.assertFalse(types.isAssignable(target, source));
+        Assert.assertFalse(types.isAssignable(target, source));
+        Assert.assertFalse(types.isSameType(source, target));
+        Assert.assertTrue(types.isSameType(source, source));
+    }
+
+    @Test
+    public void testRecursiveTypes() {
+        // type A record {| int a; A? next; |}; and a structurally equal type B
+        BRecordType recordA = createRecord(true, null, field("a", symTable.intType));
+        recordA.fields.put("next", field("next", BUnionType.create(null, recordA, symTable.nilType)));
+        BRecordType recordB = createRecord(true, null, field("a", symTable.intType));
+        recordB.fields.put("next", field("next", BUnionType.create(null, recordB, symTable.nilType)));
+        // type C record {| int a; C? next; |}; where the field of C is a string instead
+        BRecordType recordC = createRecord(true, null, field("a", symTable.stringType));
+        recordC.fields.put("next", field("next", BUnionType.create(null, recordC, symTable.nilType)));
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(types.isAssignable(recordA, recordB));
+            Assert.assertTrue(types.isAssignable(recordB, recordA));
+            Assert.assertFalse(types.isAssignable(recordA, recordC));
+            Assert.assertFalse(types.isAssignable(recordC, recordB));
+        }
+    }
+
+    @Test
+    public void testNestedTypeChangedAfterCachedResult() {
+        BRecordType innerSource = createRecord(true, null, field("x", symTable.intType));
+        BRecordType innerTarget = createRecord(true, null, field("x", symTable.intType));
+        BRecordType source = createRecord(true, null, field("inner", innerSource));
+        BRecordType target = createRecord(true, null, field("inner", innerTarget));
+        Assert.assertTrue(types.isAssignable(source, target));
+
+        // The type of a field of a nested record is replaced in place, which is not seen until the cache is
+        // invalidated
+        innerTarget.fields.get("x").type = symTable.stringType;
+        Assert.assertTrue(types.isAssignable(source, target));
+        types.invalidateRelationCache();
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        innerTarget.fields.get("x").type = symTable.intType;
+        types.invalidateRelationCache();
+        Assert.assertTrue(types.isAssignable(source, target));
+
+        // A field is added to a nested record
+        innerTarget.fields.put("y", field("y", symTable.intType));
+        types.invalidateRelationCache();
+        Assert.assertFalse(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testUnionMemberAddedAfterCachedResult() {
+        BUnionType union = BUnionType.create(null, symTable.intType, symTable.nilType);
+        BRecordType source = createRecord(true, null, field("a", symTable.stringType));
+        BRecordType target = createRecord(true, null, field("a", union));
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        union.add(symTable.stringType);
+        types.invalidateRelationCache();
+        Assert.assertTrue(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testSuspendedCache() {
+        BRecordType source = createRecord(true, null, field("a", symTable.intType));
+        BRecordType target = createRecord(true, null, field("a", symTable.intType));
+        Assert.assertTrue(types.isAssignable(source, target));
+
+        // Types are checked again while they are being completed, as SymbolEnter and Desugar do
+        types.suspendRelationCache();
+        try {
+            target.fields.get("a").type = symTable.stringType;
+            Assert.assertFalse(types.isAssignable(source, target));
+            target.fields.get("a").type = symTable.intType;
+            Assert.assertTrue(types.isAssignable(source, target));
+            target.fields.get("a").type = symTable.stringType;
+        } finally {
+            types.resumeRelationCache();
+        }
+        Assert.assertFalse(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testFieldEquivalency() {
+        BRecordType closed = createRecord(true, null, field("a", symTable.intType));
+        BRecordType openInt = createRecord(false, symTable.intType, field("a", symTable.intType));
+        BRecordType extraInt = createRecord(true, null, field("a", symTable.intType), field("b", symTable.intType));
+        BRecordType extraString = createRecord(true, null, field("a", symTable.intType),
+                                               field("b", symTable.stringType));
+
+        // Fields of the RHS which are not in a closed LHS record are not allowed
+        Assert.assertFalse(types.isAssignable(extraInt, closed));
+        // Fields of the RHS which are not in an open LHS record should belong to the rest field type
+        Assert.assertTrue(types.isAssignable(extraInt, openInt));
+        Assert.assertFalse(types.isAssignable(extraString, openInt));
+        // A required LHS field should be in the RHS record
+        Assert.assertFalse(types.isAssignable(createRecord(true, null, field("b", symTable.intType)), openInt));
+
+        // The RHS fields are not changed by the check
+        Assert.assertEquals(extraInt.fields.size(), 2);
+        Assert.assertEquals(extraString.fields.size(), 2);
+    }
+
+    private BRecordType createRecord(boolean sealed, BType restFieldType, BField... fields) {
+        BRecordType recordType = new BRecordType(null, Flags.ANONYMOUS);
+        recordType.tsymbol = Symbols.createRecordSymbol(Flags.ANONYMOUS, new Name(""), PackageID.DEFAULT,
+                                                        recordType, null, symTable.builtinPos, VIRTUAL);
+        recordType.sealed = sealed;
+        recordType.restFieldType = sealed ? symTable.noType : restFieldType;
+        for (BField field : fields) {
+            recordType.fields.put(field.name.value, field);
+        }
+        return recordType;
+    }
+
+    private BField field(String name, BType type) {
+        BVarSymbol symbol = new BVarSymbol(Flags.PUBLIC | Flags.REQUIRED, new Name(name), PackageID.DEFAULT, type,
+                                           null, symTable.builtinPos, VIRTUAL);
+        return new BField(symbol.name, symTable.builtinPos, symbol);
+    }
+}
@@ -118,13 +118,18 @@ class BIRTestUtils {
     private static void assertFunctions(BIRNode.BIRPackage expectedBIR, Bir.Module birModule,
                                         ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
         List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions;
-        ArrayList<Bir.Function> actualFunctions = birModule.functions();
+        ArrayList<Bir.IndexedFunction> actualFunctions = birModule.functions();
         Assert.assertEquals(birModule.functionCount(), expectedFunctions.size());
 
         for (int i = 0; i < expectedFunctions.size(); i++) {
-            Bir.Function actualFunction = actualFunctions.get(i);
+            Bir.IndexedFunction indexedFunction = actualFunctions.get(i);
+            Bir.Function actualFunction = indexedFunction.function();
             BIRNode.BIRFunction expectedFunction = expectedFunctions.get(i);
 
+            // assert indexed name
+            assertConstantPoolEntry(constantPoolEntries.get(indexedFunction.nameCpIndex()),
+                                    expectedFunction.name.value);
+
             // assert name
             Bir.ConstantPoolEntry constantPoolEntry = constantPoolEntries.get(actualFunction.nameCpIndex());
             assertConstantPoolEntry(constantPoolEntry, expectedFunction.name.value);
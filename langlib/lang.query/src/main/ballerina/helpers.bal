@@ -76,6 +76,15 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+function useIndexForFilter(_StreamPipeline pipeline, string fieldName,
+        function (_Frame _frame) returns any keyFunction) {
+    pipeline.useIndexForFilter(fieldName, keyFunction);
+}
+
+function useIndexForJoin(_StreamPipeline pipeline, string fieldName) {
+    pipeline.useIndexForJoin(fieldName);
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -150,3 +159,25 @@ function consumeStream(stream<Type, CompletionType> strm) returns error? {
         return v;
     }
 }
+
+function hasIndex(table<map<Type>> tbl, string fieldName) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndex",
+    name: "hasIndex"
+} external;
+
+function getIndexedRows(table<map<Type>> tbl, string fieldName, any key) returns map<Type>[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndex",
+    name: "getIndexedRows"
+} external;
+
+# Returns a new frame with the entries of `lhs` and `rhs`, where the entries of `rhs` take precedence.
+function mergeFrames(_Frame lhs, _Frame rhs) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "mergeFrames"
+} external;
+
+# Adds the entries of `rhs` to `lhs` and returns `lhs`.
+function mergeIntoFrame(_Frame lhs, _Frame rhs) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "mergeIntoFrame"
+} external;
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.__internal as internal;
 import ballerina/lang.'array as lang_array;
 import ballerina/lang.'map as lang_map;
@@ -75,13 +76,17 @@ type _Frame record {|
 
 class _StreamPipeline {
     _StreamFunction streamFunction;
+    _InitFunction initFunction;
     typedesc<Type> constraintTd;
     typedesc<CompletionType> completionTd;
+    string? joinIndexField = ();
 
     function init(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection,
             typedesc<Type> constraintTd, typedesc<CompletionType> completionTd) {
-        self.streamFunction = new _InitFunction(collection);
+        _InitFunction initFunction = new (collection);
+        self.initFunction = initFunction;
+        self.streamFunction = initFunction;
         self.constraintTd = constraintTd;
         self.completionTd = completionTd;
     }
@@ -101,6 +106,10 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
+        if (streamFunction is _LimitFunction && existingFunc is _OrderByFunction) {
+            // `order by` followed by `limit` only needs to keep the first n frames.
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
     }
@@ -110,6 +119,47 @@ class _StreamPipeline {
         var strm = internal:construct(self.constraintTd, self.completionTd, itrObj);
         return strm;
     }
+
+    function useIndexForFilter(string fieldName, function (_Frame _frame) returns any keyFunction) {
+        self.initFunction.useIndex(fieldName, keyFunction);
+    }
+
+    function useIndexForJoin(string fieldName) {
+        var collection = self.initFunction.collection;
+        if (collection is table<map<Type>> && hasIndex(collection, fieldName)) {
+            self.joinIndexField = fieldName;
+        }
+    }
+
+    function hasJoinIndex() returns boolean {
+        return self.joinIndexField is string;
+    }
+
+    # Looks up the members to join in the secondary index of the table.
+    # + key - value of the indexed field
+    # + return - frames of the members of which the indexed field is equal to `key`,
+    #            or `()` if the pipeline does not have a join index
+    function getJoinCandidates(any key) returns _Frame[]|error? {
+        string? fieldName = self.joinIndexField;
+        var collection = self.initFunction.collection;
+        if (fieldName is string && collection is table<map<Type>>) {
+            map<Type>[]? members = getIndexedRows(collection, fieldName, key);
+            if (members is map<Type>[]) {
+                self.initFunction.iterateOver(members);
+                _Frame[] frames = [];
+                _Frame|error? f = self.next();
+                while (f is _Frame) {
+                    frames.push(f);
+                    f = self.next();
+                }
+                if (f is error) {
+                    return f;
+                }
+                return frames;
+            }
+        }
+        return ();
+    }
 }
 
 class _InitFunction {
@@ -117,6 +167,8 @@ class _InitFunction {
     _Iterator? itr;
     boolean resettable = true;
     Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection;
+    string? indexField = ();
+    (function (_Frame _frame) returns any)? indexKeyFunction = ();
 
     function init(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection) {
@@ -127,6 +179,9 @@ class _InitFunction {
     }
 
     public function process() returns _Frame|error? {
+        if (self.itr is ()) {
+            self.itr = self._getIterator(self.collection);
+        }
         _Iterator i = <_Iterator>self.itr;
         record {|(any|error) value;|}|error? v = i.next();
         if (v is record {|(any|error) value;|}) {
@@ -144,6 +199,24 @@ class _InitFunction {
         }
     }
 
+    # Iterates over the members of the table which have the given value for the given field,
+    # if the table has a secondary index on the field. Only the first indexed field is used.
+    # + fieldName - name of the field
+    # + keyFunction - function which returns the value of the field
+    function useIndex(string fieldName, function (_Frame _frame) returns any keyFunction) {
+        var collection = self.collection;
+        if (self.indexField is () && collection is table<map<Type>> && hasIndex(collection, fieldName)) {
+            self.indexField = fieldName;
+            self.indexKeyFunction = keyFunction;
+            // The index is looked up when the first member is requested, as the key has to be evaluated lazily.
+            self.itr = ();
+        }
+    }
+
+    function iterateOver(map<Type>[] members) {
+        self.itr = lang_array:iterator(members);
+    }
+
     function _getIterator(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection)
                 returns _Iterator {
@@ -158,6 +231,10 @@ class _InitFunction {
         } else if (collection is string) {
             return lang_string:iterator(collection);
         } else if (collection is table<map<Type>>) {
+            map<Type>[]? indexedMembers = self._lookupIndex(collection);
+            if (indexedMembers is map<Type>[]) {
+                return lang_array:iterator(indexedMembers);
+            }
             return lang_table:iterator(collection);
         } else if (collection is _Iterable) {
             return collection.iterator();
@@ -167,6 +244,15 @@ class _InitFunction {
             return lang_stream:iterator(collection);
         }
     }
+
+    function _lookupIndex(table<map<Type>> collection) returns map<Type>[]? {
+        string? fieldName = self.indexField;
+        (function (_Frame _frame) returns any)? keyFunction = self.indexKeyFunction;
+        if (fieldName is string && keyFunction is function (_Frame _frame) returns any) {
+            return getIndexedRows(collection, fieldName, keyFunction({}));
+        }
+        return ();
+    }
 }
 
 class _InputFunction {
@@ -325,8 +411,10 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
-    _Frame|error? lhsFrame;
+    _StreamPipeline pipelineToJoin;
+    _Frame[] rhsCandidates = [];
+    int candidateIndex = 0;
+    _Frame? lhsFrame = ();
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -334,12 +422,15 @@ class _InnerJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
+        self.pipelineToJoin = pipelineToJoin;
         self.prevFunc = ();
-        self.lhsFrame = ();
+        if (pipelineToJoin.hasJoinIndex()) {
+            // Candidates are looked up in the index of the table for each lhs frame.
+            return;
+        }
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -351,49 +442,60 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
+        _Frame[] rhsCandidates = self.rhsCandidates;
+        int candidateIndex = self.candidateIndex;
+
+        while (candidateIndex >= rhsCandidates.length()) {
+            // All the candidates of the current lhs frame are joined, move to the next lhs frame.
+            _Frame|error? lhsFrame = pf.process();
+            if (lhsFrame is _Frame) {
+                _Frame[]|error? candidates = self._getCandidates(lhsKF(lhsFrame));
+                if (candidates is error) {
+                    return candidates;
                 }
-                return joinedFrame;
+                self.lhsFrame = lhsFrame;
+                rhsCandidates = candidates ?: [];
+                candidateIndex = 0;
             } else {
-                // Move to next lhs frame
                 self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
+                self.rhsCandidates = [];
+                self.candidateIndex = 0;
+                return lhsFrame;
             }
         }
-        return lhsFrame;
+        return self._joinNext(rhsCandidates, candidateIndex);
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsCandidates = [];
+        self.candidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    function _getCandidates(any lhsKey) returns _Frame[]|error? {
+        if (self.pipelineToJoin.hasJoinIndex()) {
+            return self.pipelineToJoin.getJoinCandidates(lhsKey);
+        }
+        return self.rhsFramesMap.get(lhsKey);
+    }
+
+    function _joinNext(_Frame[] rhsCandidates, int candidateIndex) returns _Frame {
+        _Frame lhsFrame = <_Frame>self.lhsFrame;
+        _Frame rhsFrame = rhsCandidates[candidateIndex];
+        self.rhsCandidates = rhsCandidates;
+        self.candidateIndex = candidateIndex + 1;
+        if (candidateIndex + 1 < rhsCandidates.length()) {
+            return mergeFrames(lhsFrame, rhsFrame);
+        }
+        // The lhs frame is not joined with any other frame after this, so the last candidate is merged into it.
+        self.lhsFrame = ();
+        return mergeIntoFrame(lhsFrame, rhsFrame);
+    }
 }
 
 class _OuterJoinFunction {
@@ -401,8 +503,10 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
-    _Frame|error? lhsFrame;
+    _StreamPipeline pipelineToJoin;
+    _Frame[] rhsCandidates = [];
+    int candidateIndex = 0;
+    _Frame? lhsFrame = ();
     _Frame nilFrame;
 
     function init(
@@ -411,13 +515,16 @@ class _OuterJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
+        self.pipelineToJoin = pipelineToJoin;
         self.prevFunc = ();
-        self.lhsFrame = ();
         self.nilFrame = nilFrame;
+        if (pipelineToJoin.hasJoinIndex()) {
+            // Candidates are looked up in the index of the table for each lhs frame.
+            return;
+        }
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -429,60 +536,67 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
+        _Frame[] rhsCandidates = self.rhsCandidates;
+        int candidateIndex = self.candidateIndex;
+
+        if (candidateIndex >= rhsCandidates.length()) {
+            // All the candidates of the current lhs frame are joined, move to the next lhs frame.
+            _Frame|error? lhsFrame = pf.process();
+            if (lhsFrame is _Frame) {
+                _Frame[]|error? candidates = self._getCandidates(lhsKF(lhsFrame));
+                if (candidates is error) {
+                    return candidates;
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
+                if (candidates is _Frame[] && candidates.length() > 0) {
+                    self.lhsFrame = lhsFrame;
+                    rhsCandidates = candidates;
+                    candidateIndex = 0;
+                } else {
+                    // There is nothing to join, the lhs frame is joined with nil values.
+                    self.rhsCandidates = [];
+                    self.candidateIndex = 0;
+                    return mergeIntoFrame(lhsFrame, self.nilFrame);
                 }
-                return joinedFrame;
             } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
                 self.lhsFrame = ();
-                return joinedFrame;
+                self.rhsCandidates = [];
+                self.candidateIndex = 0;
+                return lhsFrame;
             }
         }
-        return lhsFrame;
+        return self._joinNext(rhsCandidates, candidateIndex);
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsCandidates = [];
+        self.candidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    function _getCandidates(any lhsKey) returns _Frame[]|error? {
+        if (self.pipelineToJoin.hasJoinIndex()) {
+            return self.pipelineToJoin.getJoinCandidates(lhsKey);
+        }
+        return self.rhsFramesMap.get(lhsKey);
+    }
+
+    function _joinNext(_Frame[] rhsCandidates, int candidateIndex) returns _Frame {
+        _Frame lhsFrame = <_Frame>self.lhsFrame;
+        _Frame rhsFrame = rhsCandidates[candidateIndex];
+        self.rhsCandidates = rhsCandidates;
+        self.candidateIndex = candidateIndex + 1;
+        if (candidateIndex + 1 < rhsCandidates.length()) {
+            return mergeFrames(lhsFrame, rhsFrame);
+        }
+        // The lhs frame is not joined with any other frame after this, so the last candidate is merged into it.
+        self.lhsFrame = ();
+        return mergeIntoFrame(lhsFrame, rhsFrame);
+    }
 }
 
 class _FilterFunction {
@@ -522,6 +636,8 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
+    # Function of the `limit` clause which immediately follows, if any
+    (function (_Frame _frame) returns int)? limitFunc = ();
     stream<_Frame>? orderedStream;
 
     function init(function(_Frame _frame) orderKeyFunc) {
@@ -535,18 +651,41 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
-            // consume all events for ordering.
-            while (f is _Frame) {
-                orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
-                f = pf.process();
-            }
-            if (f is error) {
-                return f;
+            (function (_Frame _frame) returns int)? limitFunc = self.limitFunc;
+            if (limitFunc is function (_Frame _frame) returns int) {
+                // consume all events, keeping only the first n in order.
+                _TopKFrames topK = new;
+                int lmt = 0;
+                while (f is _Frame) {
+                    if (lmt == 0) {
+                        lmt = limitFunc(f);
+                        if (lmt < 1) {
+                            panic error("Invalid limit", message = "limit cannot be < 1.");
+                        }
+                    }
+                    orderKeyFunc(f);
+                    topK.add(f, lmt);
+                    f = pf.process();
+                }
+                if (f is error) {
+                    return f;
+                }
+                _Frame[] frames = topK.get() ?: [];
+                self.orderedStream = frames.toStream();
+            } else {
+                boolean[] directions = [];
+                _OrderTreeNode oTree = new;
+                // consume all events for ordering.
+                while (f is _Frame) {
+                    orderKeyFunc(f);
+                    oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                    f = pf.process();
+                }
+                if (f is error) {
+                    return f;
+                }
+                self.orderedStream = oTree.get().toStream();
             }
-            self.orderedStream = oTree.get().toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -677,36 +816,35 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Multimap of frames, keyed by values which are compared for equality the same way as `==` does.
 class _FrameMultiMap {
-    map<_Frame[]> m;
 
-    function init() {
-        self.m = {};
-    }
+    function put(any key, _Frame frame) = @java:Method {
+        'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+        name: "put"
+    } external;
+
+    # Returns the frames added with a key equal to `key`, in the order they were added.
+    # The returned array is shared by later lookups of the same key and must not be modified.
+    function get(any key) returns _Frame[]? = @java:Method {
+        'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+        name: "get"
+    } external;
+}
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
-    }
+# Frames which come first in the order of an `order by` clause, keeping at most `k` of them.
+class _TopKFrames {
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
-    }
+    function add(_Frame frame, int k) = @java:Method {
+        'class: "org.ballerinalang.langlib.query.TopKFrames",
+        name: "add"
+    } external;
 
+    # Returns the frames which were kept, in order.
+    function get() returns _Frame[]? = @java:Method {
+        'class: "org.ballerinalang.langlib.query.TopKFrames",
+        name: "get"
+    } external;
 }
 
 class IterHelper {
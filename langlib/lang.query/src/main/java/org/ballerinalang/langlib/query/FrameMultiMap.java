@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.CycleUtils.Node;
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native implementation of the _FrameMultiMap used by the join stages of the query pipeline.
+ * <p>
+ * Frames are grouped by the hash of their key, and keys with the same hash are told apart with
+ * {@link TypeChecker#isEqual}, so keys match the same way as they do for `==`, without converting them to strings.
+ * Hence keys which are equal must have the same hash, e.g. mappings with the same fields in a different order.
+ *
+ * @since 2.0.0
+ */
+public class FrameMultiMap {
+
+    private static final String FRAMES_NATIVE_DATA_KEY = "frames";
+
+    public static void put(BObject multiMap, Object key, BMap<?, ?> frame) {
+        Map<Long, KeyedFrames> frames = getFrames(multiMap);
+        if (frames == null) {
+            frames = new HashMap<>();
+            multiMap.addNativeData(FRAMES_NATIVE_DATA_KEY, frames);
+        }
+        long hash = hash(key, null);
+        KeyedFrames keyedFrames = frames.get(hash);
+        KeyedFrames match = find(keyedFrames, key);
+        if (match == null) {
+            match = new KeyedFrames(key, keyedFrames);
+            frames.put(hash, match);
+        }
+        match.add(frame);
+    }
+
+    public static Object get(BObject multiMap, Object key) {
+        Map<Long, KeyedFrames> frames = getFrames(multiMap);
+        if (frames == null) {
+            return null;
+        }
+        KeyedFrames match = find(frames.get(hash(key, null)), key);
+        return match == null ? null : match.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, KeyedFrames> getFrames(BObject multiMap) {
+        return (Map<Long, KeyedFrames>) multiMap.getNativeData(FRAMES_NATIVE_DATA_KEY);
+    }
+
+    /**
+     * Returns a hash of the key which is the same for keys that are equal according to {@link TypeChecker#isEqual}.
+     *
+     * @param key    key of a frame
+     * @param parent node linking to the value which contains the key
+     * @return hash of the key
+     */
+    private static long hash(Object key, Node parent) {
+        if (key == null) {
+            return 0;
+        }
+        if (key instanceof Double) {
+            double value = (Double) key;
+            // Double.hashCode() gives all the NaNs the same hash, but -0.0 and 0.0 have different bits
+            return value == 0.0 ? 0 : Double.hashCode(value);
+        }
+        if (key instanceof BDecimal) {
+            BDecimal decimal = (BDecimal) key;
+            if (decimal.getValueKind() != DecimalValueKind.OTHER) {
+                return decimal.getValueKind().ordinal();
+            }
+            // Decimals are equal regardless of their scale, e.g. 1.0 and 1.00
+            BigDecimal value = decimal.decimalValue();
+            return value.signum() == 0 ? 0 : value.stripTrailingZeros().hashCode();
+        }
+        if (key instanceof Number) {
+            // Ints and bytes which are equal have the same value
+            return Long.hashCode(((Number) key).longValue());
+        }
+        if (key instanceof BXml) {
+            // XML values are compared by their content, hence they are told apart only by isEqual
+            return BXml.class.hashCode();
+        }
+        if (key instanceof BTable) {
+            return ((BTable<?, ?>) key).size();
+        }
+        if (!(key instanceof BMap || key instanceof BArray || key instanceof BError)) {
+            return key.hashCode();
+        }
+
+        Node node = new Node(key, parent);
+        if (node.hasCyclesSoFar()) {
+            // Values which refer back to a value being compared are equal as far as isEqual is concerned
+            return 0;
+        }
+        long result = 0;
+        if (key instanceof BMap) {
+            // Mappings are equal regardless of the order of their fields, so the fields are summed up
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) key).entrySet()) {
+                result += hash(entry.getKey(), node) ^ hash(entry.getValue(), node);
+            }
+        } else if (key instanceof BArray) {
+            BArray array = (BArray) key;
+            for (int i = 0; i < array.size(); i++) {
+                result = 31 * result + hash(array.get(i), node);
+            }
+        } else {
+            BError error = (BError) key;
+            result = 31 * (31 * hash(error.getErrorMessage(), node) + hash(error.getDetails(), node)) +
+                    hash(error.getCause(), node);
+        }
+        return result;
+    }
+
+    private static KeyedFrames find(KeyedFrames keyedFrames, Object key) {
+        while (keyedFrames != null && !TypeChecker.isEqual(keyedFrames.key, key)) {
+            keyedFrames = keyedFrames.next;
+        }
+        return keyedFrames;
+    }
+
+    /**
+     * Frames added with the same key. Keys which have the same hash but are not equal are chained.
+     */
+    private static class KeyedFrames {
+        private final Object key;
+        private final KeyedFrames next;
+        private final List<BMap<?, ?>> frames = new ArrayList<>(1);
+        private BArray array;
+
+        KeyedFrames(Object key, KeyedFrames next) {
+            this.key = key;
+            this.next = next;
+        }
+
+        void add(BMap<?, ?> frame) {
+            frames.add(frame);
+            array = null;
+        }
+
+        BArray toArray() {
+            // The join stages only read the candidates, so the same array is handed out for every lookup.
+            if (array == null) {
+                array = ValueCreator.createArrayValue(frames.toArray(),
+                        TypeCreator.createArrayType(frames.get(0).getType()));
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Merges the frames of the two sides of a join in the query pipeline.
+ *
+ * @since 2.0.0
+ */
+public class JoinFrames {
+
+    public static BMap<BString, Object> mergeFrames(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+        BMap<BString, Object> joined = ValueCreator.createMapValue(lhs.getType());
+        putAll(joined, lhs);
+        putAll(joined, rhs);
+        return joined;
+    }
+
+    public static BMap<BString, Object> mergeIntoFrame(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+        putAll(lhs, rhs);
+        return lhs;
+    }
+
+    private static void putAll(BMap<BString, Object> target, BMap<BString, Object> source) {
+        for (Map.Entry<BString, Object> entry : source.entrySet()) {
+            target.put(entry.getKey(), entry.getValue());
+        }
+    }
+}
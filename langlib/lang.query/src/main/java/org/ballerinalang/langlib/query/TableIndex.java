@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Lookups on the secondary indexes of a table, used by the query pipeline.
+ *
+ * @since 2.0.0
+ */
+public class TableIndex {
+
+    public static boolean hasIndex(BTable tbl, BString fieldName) {
+        return tbl instanceof TableValueImpl && ((TableValueImpl<?, ?>) tbl).hasIndex(fieldName);
+    }
+
+    public static Object getIndexedRows(BTable tbl, BString fieldName, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return null;
+        }
+        Object[] rows = ((TableValueImpl<?, ?>) tbl).getIndexedRows(fieldName, value);
+        if (rows == null) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(rows,
+                TypeCreator.createArrayType(((TableType) tbl.getType()).getConstrainedType()));
+    }
+}
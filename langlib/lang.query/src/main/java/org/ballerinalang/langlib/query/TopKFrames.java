@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Native implementation of the _TopKFrames used by an `order by` clause which is followed by a `limit` clause.
+ * <p>
+ * Only the first k frames in the order of the `order by` clause are kept, in a heap of which the head is the frame
+ * that comes last. Order keys are compared with {@link ValueComparisonUtils#compareValues} in the same way as
+ * `lang.array:sort` does, and frames with equal keys keep the order in which they were added.
+ *
+ * @since 2.0.0
+ */
+public class TopKFrames {
+
+    private static final String HEAP_NATIVE_DATA_KEY = "heap";
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private static final Comparator<OrderedFrame> ORDER = TopKFrames::compare;
+
+    public static void add(BObject topK, BMap<?, ?> frame, long k) {
+        Heap heap = getHeap(topK);
+        if (heap == null) {
+            heap = new Heap((int) Math.min(k, Integer.MAX_VALUE - 1));
+            topK.addNativeData(HEAP_NATIVE_DATA_KEY, heap);
+        }
+        OrderedFrame orderedFrame = new OrderedFrame(frame, (BArray) frame.get(ORDER_KEY),
+                (BArray) frame.get(ORDER_DIRECTION), heap.count++);
+        PriorityQueue<OrderedFrame> frames = heap.frames;
+        if (frames.size() < heap.k) {
+            frames.offer(orderedFrame);
+        } else if (compare(orderedFrame, frames.peek()) < 0) {
+            frames.poll();
+            frames.offer(orderedFrame);
+        }
+    }
+
+    public static Object get(BObject topK) {
+        Heap heap = getHeap(topK);
+        if (heap == null || heap.frames.isEmpty()) {
+            return null;
+        }
+        List<OrderedFrame> orderedFrames = new ArrayList<>(heap.frames);
+        orderedFrames.sort(ORDER);
+        Object[] frames = new Object[orderedFrames.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = orderedFrames.get(i).frame;
+        }
+        return ValueCreator.createArrayValue(frames,
+                TypeCreator.createArrayType(orderedFrames.get(0).frame.getType()));
+    }
+
+    private static Heap getHeap(BObject topK) {
+        return (Heap) topK.getNativeData(HEAP_NATIVE_DATA_KEY);
+    }
+
+    /**
+     * Returns a negative value if the frame {@code x} comes before the frame {@code y}.
+     */
+    private static int compare(OrderedFrame x, OrderedFrame y) {
+        BArray keys = x.keys;
+        for (int i = 0; i < keys.size(); i++) {
+            int result;
+            if ((Boolean) x.directions.get(i)) {
+                result = ValueComparisonUtils.compareValues(keys.get(i), y.keys.get(i), ASCENDING);
+            } else {
+                result = ValueComparisonUtils.compareValues(y.keys.get(i), keys.get(i), DESCENDING);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(x.sequence, y.sequence);
+    }
+
+    /**
+     * Frames which come first so far, with the frame which comes last at the head.
+     */
+    private static class Heap {
+        private final int k;
+        private final PriorityQueue<OrderedFrame> frames;
+        private long count = 0;
+
+        Heap(int k) {
+            this.k = k;
+            this.frames = new PriorityQueue<>(Math.min(k, 1024) + 1, Collections.reverseOrder(ORDER));
+        }
+    }
+
+    /**
+     * A frame together with its order keys and the position in which it was added.
+     */
+    private static class OrderedFrame {
+        private final BMap<?, ?> frame;
+        private final BArray keys;
+        private final BArray directions;
+        private final long sequence;
+
+        OrderedFrame(BMap<?, ?> frame, BArray keys, BArray directions, long sequence) {
+            this.frame = frame;
+            this.keys = keys;
+            this.directions = directions;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -216,3 +216,18 @@ public isolated function nextKey(table<any|error> key<int> t) returns int = @jav
     'class: "org.ballerinalang.langlib.table.NextKey",
     name: "nextKey"
 } external;
+
+# Adds a secondary index on a field of the members of a table.
+# Query expressions which iterate over `t` use the index for a `where` clause
+# of the form `m.fieldName == v`, when it directly follows the `from` clause,
+# and for a `join` clause of the form `on v equals m.fieldName`,
+# instead of going through every member of `t`.
+# Only a `readonly` field of type `int`, `string` or `boolean` can be indexed;
+# this panics for any other field, and if `t` is read-only.
+#
+# + t - the table
+# + fieldName - the name of the field to index
+public isolated function addIndex(table<map<any|error>> t, string fieldName) returns () = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
@@ -1115,6 +1115,53 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    int[] arr = [10, -1, 3, 2, 0, 6, 3];
+    assertValueEquality([-1, 0, 2, 3, 3, 6, 10], arr.sort());
+    assertValueEquality([10, 6, 3, 3, 2, 0, -1], arr.sort(array:DESCENDING));
+
+    float[] arr2 = [1.5, -0.0, 0.0 / 0.0, 0.0, -2.25, -0.0, 1.5];
+    float[] sortedArr2 = arr2.sort();
+    assertValueEquality("[-2.25,-0.0,0.0,-0.0,1.5,1.5,NaN]", sortedArr2.toString());
+    assertTrue(sortedArr2[1] === -0.0 && sortedArr2[2] === 0.0 && sortedArr2[3] === -0.0);
+    sortedArr2 = arr2.sort(array:DESCENDING);
+    assertValueEquality("[1.5,1.5,-0.0,0.0,-0.0,-2.25,NaN]", sortedArr2.toString());
+
+    byte[] arr3 = [200, 3, 127, 128, 0, 255];
+    assertValueEquality(<byte[]>[0, 3, 127, 128, 200, 255], arr3.sort());
+    assertValueEquality(<byte[]>[255, 200, 128, 127, 3, 0], arr3.sort(array:DESCENDING));
+
+    boolean[] arr4 = [true, false, true, false, false];
+    assertValueEquality([false, false, false, true, true], arr4.sort());
+    assertValueEquality([true, true, false, false, false], arr4.sort(array:DESCENDING));
+
+    string[] arr5 = ["\u{1F600}", "b", "", "\u{FFFD}", "ab", "a"];
+    assertValueEquality(["", "a", "ab", "b", "\u{FFFD}", "\u{1F600}"], arr5.sort());
+    assertValueEquality(["\u{1F600}", "\u{FFFD}", "b", "ab", "a", ""], arr5.sort(array:DESCENDING));
+
+    // large enough to be sorted in parallel
+    int[] arr6 = [];
+    int i = 0;
+    while (i < 100000) {
+        arr6[i] = (i * 7919) % 100003;
+        i += 1;
+    }
+    int[] sortedArr6 = arr6.sort(array:DESCENDING);
+    assertValueEquality(100000, sortedArr6.length());
+    i = 1;
+    while (i < sortedArr6.length()) {
+        assertTrue(sortedArr6[i - 1] >= sortedArr6[i]);
+        i += 1;
+    }
+
+    int[] & readonly arr7 = [3, 1, 2];
+    error? err = trap arr7.sort();
+    assertTrue(err is error);
+    if (err is error) {
+        assertValueEquality("{ballerina/lang.array}InvalidUpdate", err.message());
+    }
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
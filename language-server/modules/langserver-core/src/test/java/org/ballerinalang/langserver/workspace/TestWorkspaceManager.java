@@ -29,6 +29,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -86,6 +88,31 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider")
+    public void testIncrementalUpdateDocument(Path filePath) throws WorkspaceDocumentException {
+        openFile(filePath);
+
+        // Inputs from lang server. Range of the second change is relative to the content after the first change.
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 9), new Position(0, 12)), 3, "bar"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 0), new Position(1, 0)), 0, "    int x = 1;" + CommonUtil.LINE_SEPARATOR));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        String expectedContent = "function bar() {" + CommonUtil.LINE_SEPARATOR + "    int x = 1;" +
+                CommonUtil.LINE_SEPARATOR + "}";
+        Assert.assertEquals(document.get().textDocument().toString(), expectedContent);
+        Assert.assertEquals(document.get().syntaxTree().toSourceCode(), expectedContent);
+        Assert.assertFalse(document.get().syntaxTree().hasDiagnostics());
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
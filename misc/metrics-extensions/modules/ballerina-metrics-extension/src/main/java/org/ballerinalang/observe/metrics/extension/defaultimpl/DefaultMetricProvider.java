@@ -33,6 +33,23 @@ import java.util.function.ToDoubleFunction;
  */
 public class DefaultMetricProvider implements MetricProvider {
 
+    /**
+     * Environment variable to select the {@link Gauge} implementation, either "synchronized" for {@link DefaultGauge}
+     * or "striped" for {@link StripedGauge}. Default is "synchronized".
+     */
+    public static final String BALLERINA_METRICS_GAUGE_ENV_VAR = "BALLERINA_METRICS_GAUGE";
+    private static final String STRIPED_GAUGE = "striped";
+
+    private final boolean stripedGauges;
+
+    public DefaultMetricProvider() {
+        this(STRIPED_GAUGE.equalsIgnoreCase(System.getenv(BALLERINA_METRICS_GAUGE_ENV_VAR)));
+    }
+
+    public DefaultMetricProvider(boolean stripedGauges) {
+        this.stripedGauges = stripedGauges;
+    }
+
     @Override
     public String getName() {
         return "Default";
@@ -49,6 +66,9 @@ public class DefaultMetricProvider implements MetricProvider {
 
     @Override
     public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+        if (stripedGauges) {
+            return new StripedGauge(metricId, statisticConfigs);
+        }
         return new DefaultGauge(metricId, statisticConfigs);
     }
 
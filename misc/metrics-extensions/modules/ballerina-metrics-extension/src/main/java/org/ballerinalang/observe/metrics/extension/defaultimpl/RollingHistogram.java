@@ -88,6 +88,15 @@ public class RollingHistogram {
     private volatile boolean accumulatedHistogramStale;
 
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
+        this(clock, statisticConfig, clock.getCurrentTime());
+    }
+
+    /**
+     * Creates a {@link RollingHistogram} of which the buckets are rotated at the given time and every
+     * {@code timeWindow / buckets} after that. This is used to align the buckets of histograms which are created at
+     * different times.
+     */
+    RollingHistogram(Clock clock, StatisticConfig statisticConfig, long lastRotateTimestampMillis) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
@@ -96,7 +105,7 @@ public class RollingHistogram {
             ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
-        this.lastRotateTimestampMillis = clock.getCurrentTime();
+        this.lastRotateTimestampMillis = lastRotateTimestampMillis;
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
         intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
         accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
@@ -161,22 +170,39 @@ public class RollingHistogram {
         rotate();
         synchronized (this) {
             accumulateIfStale();
-            PercentileValue[] percentileValues = null;
-            final double[] monitoredPercentiles = statisticConfig.getPercentiles();
-            if (monitoredPercentiles != null) {
-                percentileValues = new PercentileValue[monitoredPercentiles.length];
-                for (int i = 0; i < monitoredPercentiles.length; i++) {
-                    final double p = monitoredPercentiles[i];
-                    percentileValues[i] = new PercentileValue(p, accumulatedHistogram.getValueAtPercentile(p * 100));
-                }
+            return createSnapshot(statisticConfig, accumulatedHistogram);
+        }
+    }
+
+    /**
+     * Adds the samples in the current time window to the given histogram.
+     *
+     * @param histogram histogram to add the samples to
+     */
+    void addTo(DoubleHistogram histogram) {
+        rotate();
+        synchronized (this) {
+            accumulateIfStale();
+            histogram.add(accumulatedHistogram);
+        }
+    }
+
+    static Snapshot createSnapshot(StatisticConfig statisticConfig, DoubleHistogram histogram) {
+        PercentileValue[] percentileValues = null;
+        final double[] monitoredPercentiles = statisticConfig.getPercentiles();
+        if (monitoredPercentiles != null) {
+            percentileValues = new PercentileValue[monitoredPercentiles.length];
+            for (int i = 0; i < monitoredPercentiles.length; i++) {
+                final double p = monitoredPercentiles[i];
+                percentileValues[i] = new PercentileValue(p, histogram.getValueAtPercentile(p * 100));
             }
-            return new Snapshot(statisticConfig.getTimeWindow(),
-                    accumulatedHistogram.getMinValue(),
-                    accumulatedHistogram.getMean(),
-                    accumulatedHistogram.getStdDeviation(),
-                    accumulatedHistogram.getMaxValue(),
-                    percentileValues);
         }
+        return new Snapshot(statisticConfig.getTimeWindow(),
+                histogram.getMinValue(),
+                histogram.getMean(),
+                histogram.getStdDeviation(),
+                histogram.getMaxValue(),
+                percentileValues);
     }
 
     private void accumulateIfStale() {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An implementation of {@link Gauge} which does not lock on updates.
+ * <p>
+ * The value is updated with a compare-and-set, and each value it is updated to is recorded in
+ * {@link StripedRollingHistogram}s. Same as {@link DefaultGauge}, every update records the value of the gauge right
+ * after that update.
+ *
+ * @since 2.0.0
+ */
+public class StripedGauge extends AbstractMetric implements Gauge {
+
+    private static final StripedRollingHistogram[] EMPTY_ROLLING_HISTOGRAMS = new StripedRollingHistogram[0];
+    private static final Snapshot[] EMPTY_SNAPSHOTS = new Snapshot[0];
+
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+    private final AtomicLong valueBits = new AtomicLong(Double.doubleToRawLongBits(0D));
+    private final StripedRollingHistogram[] rollingHistograms;
+
+    private StripedGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
+        super(id);
+        if (statisticConfigs != null) {
+            rollingHistograms = new StripedRollingHistogram[statisticConfigs.length];
+            for (int i = 0; i < statisticConfigs.length; i++) {
+                rollingHistograms[i] = new StripedRollingHistogram(clock, statisticConfigs[i]);
+            }
+        } else {
+            rollingHistograms = EMPTY_ROLLING_HISTOGRAMS;
+        }
+    }
+
+    StripedGauge(MetricId id, StatisticConfig... statisticConfigs) {
+        this(id, Clock.DEFAULT, statisticConfigs);
+    }
+
+    private void updateHistogram(double value) {
+        count.increment();
+        sum.add(value);
+        for (StripedRollingHistogram rollingHistogram : rollingHistograms) {
+            rollingHistogram.record(value);
+        }
+    }
+
+    private double add(double amount) {
+        long currentBits;
+        double value;
+        do {
+            currentBits = valueBits.get();
+            value = Double.longBitsToDouble(currentBits) + amount;
+        } while (!valueBits.compareAndSet(currentBits, Double.doubleToRawLongBits(value)));
+        return value;
+    }
+
+    @Override
+    public void increment(double amount) {
+        updateHistogram(add(amount));
+    }
+
+    @Override
+    public void decrement(double amount) {
+        updateHistogram(add(-amount));
+    }
+
+    @Override
+    public void setValue(double value) {
+        valueBits.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
+    }
+
+    @Override
+    public double getValue() {
+        return Double.longBitsToDouble(valueBits.get());
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public Snapshot[] getSnapshots() {
+        if (rollingHistograms.length == 0) {
+            return EMPTY_SNAPSHOTS;
+        }
+        Snapshot[] snapshots = new Snapshot[rollingHistograms.length];
+        for (int i = 0; i < rollingHistograms.length; i++) {
+            snapshots[i] = rollingHistograms[i].getSnapshot();
+        }
+        return snapshots;
+    }
+
+    @Override
+    public StatisticConfig[] getStatisticsConfig() {
+        StatisticConfig[] configs = new StatisticConfig[this.rollingHistograms.length];
+        int index = 0;
+        for (StripedRollingHistogram rollingHistogram : this.rollingHistograms) {
+            configs[index] = rollingHistogram.getStatisticConfig();
+            index++;
+        }
+        return configs;
+    }
+}
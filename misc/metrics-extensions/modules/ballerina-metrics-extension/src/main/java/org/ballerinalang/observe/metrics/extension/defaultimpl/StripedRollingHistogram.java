@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.HdrHistogram.DoubleHistogram;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link RollingHistogram} split into stripes, so that threads recording at the same time mostly write to
+ * different histograms. Each thread records to the stripe selected by its id, and the stripes are merged when a
+ * snapshot is taken.
+ * <p>
+ * Stripes are created when they are first used, and their buckets are rotated at the same times as if they were all
+ * created with this histogram.
+ *
+ * @since 2.0.0
+ */
+public class StripedRollingHistogram {
+
+    private static final int DEFAULT_STRIPES = Math.min(nextPowerOfTwo(Runtime.getRuntime().availableProcessors()),
+            64);
+
+    private final Clock clock;
+    private final StatisticConfig statisticConfig;
+    private final AtomicReferenceArray<RollingHistogram> stripes;
+    private final int mask;
+    private final long startTimeMillis;
+    private final long durationBetweenRotatesMillis;
+
+    public StripedRollingHistogram(Clock clock, StatisticConfig statisticConfig) {
+        this(clock, statisticConfig, DEFAULT_STRIPES);
+    }
+
+    StripedRollingHistogram(Clock clock, StatisticConfig statisticConfig, int stripes) {
+        this.clock = clock;
+        this.statisticConfig = statisticConfig;
+        int size = nextPowerOfTwo(stripes);
+        this.stripes = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.startTimeMillis = clock.getCurrentTime();
+        this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / statisticConfig.getBuckets();
+    }
+
+    public void record(double value) {
+        long threadId = Thread.currentThread().getId();
+        getStripe((int) (threadId ^ (threadId >>> 16)) & mask).record(value);
+    }
+
+    public StatisticConfig getStatisticConfig() {
+        return statisticConfig;
+    }
+
+    public Snapshot getSnapshot() {
+        DoubleHistogram histogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        for (int i = 0; i < stripes.length(); i++) {
+            RollingHistogram stripe = stripes.get(i);
+            if (stripe != null) {
+                stripe.addTo(histogram);
+            }
+        }
+        return RollingHistogram.createSnapshot(statisticConfig, histogram);
+    }
+
+    private RollingHistogram getStripe(int index) {
+        RollingHistogram stripe = stripes.get(index);
+        if (stripe != null) {
+            return stripe;
+        }
+        long lastRotateTimestampMillis = startTimeMillis;
+        if (durationBetweenRotatesMillis > 0) {
+            long elapsedMillis = clock.getCurrentTime() - startTimeMillis;
+            lastRotateTimestampMillis += elapsedMillis - elapsedMillis % durationBetweenRotatesMillis;
+        }
+        stripe = new RollingHistogram(clock, statisticConfig, lastRotateTimestampMillis);
+        if (stripes.compareAndSet(index, null, stripe)) {
+            return stripe;
+        }
+        return stripes.get(index);
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
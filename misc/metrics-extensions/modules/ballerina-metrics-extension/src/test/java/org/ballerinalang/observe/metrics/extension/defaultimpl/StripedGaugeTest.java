@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tests for {@link StripedGauge}.
+ *
+ * @since 2.0.0
+ */
+public class StripedGaugeTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void init() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider(true);
+        metricRegistry = new MetricRegistry(metricProvider);
+    }
+
+    @Test
+    public void testGauge() {
+        Gauge gauge = Gauge.builder("test_striped_gauge").description("Test Gauge").register(metricRegistry);
+        Assert.assertTrue(gauge instanceof StripedGauge);
+        gauge.increment(100D);
+        gauge.decrement(50D);
+        Assert.assertEquals(gauge.getValue(), 50D);
+        gauge.setValue(2);
+        Assert.assertEquals(gauge.getValue(), 2D);
+        Assert.assertEquals(gauge.getCount(), 3);
+        Assert.assertEquals(gauge.getSum(), 152D);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        StatisticConfig statisticConfig = StatisticConfig.builder().percentiles(0.5, 1.0).build();
+        Gauge gauge = Gauge.builder("test_striped_gauge_concurrent").description("Test Gauge")
+                .summarize(statisticConfig)
+                .register(metricRegistry);
+        int nThreads = 16;
+        int nUpdates = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < nThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < nUpdates; j++) {
+                    gauge.increment(1D);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(gauge.getValue(), (double) nThreads * nUpdates);
+        Assert.assertEquals(gauge.getCount(), nThreads * nUpdates);
+        // Each increment records a distinct value from 1 to the final value of the gauge.
+        Snapshot snapshot = gauge.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMin(), 1D, 0.01);
+        Assert.assertEquals(snapshot.getMax(), (double) nThreads * nUpdates, nThreads * nUpdates * 0.01);
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.observe;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObserveUtils;
@@ -39,7 +40,7 @@ import java.util.ServiceLoader;
 public class NativeFunctions {
     private static final PrintStream errStream = System.err;
 
-    public static BError enableMetrics(BString providerName) {
+    public static BError enableMetrics(Environment env, BString providerName) {
         // Loading the proper Metrics Provider
         MetricProvider selectedProvider = null;
         if (NoOpMetricProvider.NAME.equalsIgnoreCase(providerName.getValue())) {
@@ -61,6 +62,7 @@ public class NativeFunctions {
             selectedProvider.init();
             DefaultMetricRegistry.setInstance(new MetricRegistry(selectedProvider));
             ObserveUtils.addObserver(new BallerinaMetricsObserver());
+            env.getRuntime().registerSchedulerMetrics(DefaultMetricRegistry.getInstance());
             return null;
         } catch (BError e) {
             return e;
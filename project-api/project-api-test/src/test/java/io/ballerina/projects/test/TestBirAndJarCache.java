@@ -17,9 +17,12 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.Document;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -40,7 +43,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +61,15 @@ public class TestBirAndJarCache {
 
     @Test(description = "tests writing of the BIR and Jar files")
     public void testBirAndJarCaching() throws IOException {
+        testBirAndJarCaching(new BuildOptionsBuilder().build());
+    }
+
+    @Test(description = "tests writing of the BIR and Jar files when the modules are generated in parallel")
+    public void testBirAndJarCachingWithParallelCodeGen() throws IOException {
+        testBirAndJarCaching(new BuildOptionsBuilder().parallelCodeGen(true).build());
+    }
+
+    private void testBirAndJarCaching(BuildOptions buildOptions) throws IOException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
 
         // 1) Initialize the project instance
@@ -66,7 +82,7 @@ public class TestBirAndJarCache {
             testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
             ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
             environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
-            project = BuildProject.load(environmentBuilder, projectPath);
+            project = BuildProject.load(environmentBuilder, projectPath, buildOptions);
         } catch (Exception e) {
             Assert.fail(e.getMessage());
         }
@@ -75,12 +91,13 @@ public class TestBirAndJarCache {
         Package currentPackage = project.currentPackage();
         PackageCompilation pkgCompilation = currentPackage.getCompilation();
         JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
 
         int numOfModules = currentPackage.moduleIds().size();
         TestCompilationCache testCompilationCache = testCompCacheFactory.compilationCache();
         Assert.assertEquals(testCompilationCache.birCachedCount, numOfModules);
         // numOfModules * 2 : This includes testable jars as well
-        Assert.assertEquals(testCompilationCache.jarCachedCount, numOfModules * 2);
+        Assert.assertEquals(testCompilationCache.jarCachedCount.get(), numOfModules * 2);
 
         Stream<Path> pathStream = Files.find(cacheDirPath, 100,
                 (path, fileAttributes) -> !Files.isDirectory(path) &&
@@ -98,6 +115,102 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the cached BIR and Jar files of unchanged modules")
+    public void testIncrementalBuild() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+
+        // 1) The first build compiles all the modules
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        BuildProject project = loadProject(projectPath, testCompCacheFactory, buildOptions);
+        int numOfModules = project.currentPackage().moduleIds().size();
+        compileAndGenerateCode(project);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, numOfModules);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount.get(), numOfModules);
+
+        // 2) Nothing is compiled again, if none of the modules are changed
+        testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        project = loadProject(projectPath, testCompCacheFactory, buildOptions);
+        JBallerinaBackend jBallerinaBackend = compileAndGenerateCode(project);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 0);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount.get(), 0);
+        for (ModuleId moduleId : project.currentPackage().moduleIds()) {
+            Module module = project.currentPackage().module(moduleId);
+            Assert.assertNotNull(jBallerinaBackend.codeGeneratedLibrary(module.packageInstance().packageId(),
+                    module.moduleName()).path());
+        }
+
+        // 3) Only the changed module is compiled again
+        Module storageModule = project.currentPackage().module(
+                ModuleName.from(project.currentPackage().packageName(), "storage"));
+        Document document = storageModule.document(storageModule.documentIds().iterator().next());
+        document.modify().withContent(document.textDocument().toString() + "\n// modified\n").apply();
+        compileAndGenerateCode(project);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 1);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount.get(), 1);
+    }
+
+    @Test(description = "tests reusing the dependency layer of the executable jar in incremental builds")
+    public void testExecutableDependencyLayer() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("project_with_tests");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        Path executableDirPath = Files.createTempDirectory("test-executable" + System.nanoTime());
+
+        // 1) Emit the executable with a full build
+        BuildProject project = loadProject(projectPath, new TestCompilationCacheFactory(cacheDirPath),
+                new BuildOptionsBuilder().skipTests(true).build());
+        Path executablePath = executableDirPath.resolve("full.jar");
+        Assert.assertTrue(compileAndGenerateCode(project)
+                .emit(JBallerinaBackend.OutputType.EXEC, executablePath).successful());
+        List<String> expectedEntries = getJarEntries(executablePath);
+
+        // 2) Emitting the executable of an incremental build creates the dependency layer
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        project = loadProject(projectPath, new TestCompilationCacheFactory(cacheDirPath), buildOptions);
+        executablePath = executableDirPath.resolve("incremental.jar");
+        Assert.assertTrue(compileAndGenerateCode(project)
+                .emit(JBallerinaBackend.OutputType.EXEC, executablePath).successful());
+        Assert.assertEquals(getJarEntries(executablePath), expectedEntries);
+
+        Path layerPath;
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100,
+                (path, fileAttributes) -> path.getFileName().toString().equals("dependency-layer.jar"))) {
+            layerPath = pathStream.findFirst().orElseThrow();
+        }
+        Assert.assertTrue(Files.exists(layerPath.resolveSibling("dependency-layer.jar.idx")));
+        FileTime layerModifiedTime = Files.getLastModifiedTime(layerPath);
+
+        // 3) The next incremental build reuses the dependency layer
+        project = loadProject(projectPath, new TestCompilationCacheFactory(cacheDirPath), buildOptions);
+        executablePath = executableDirPath.resolve("reused.jar");
+        Assert.assertTrue(compileAndGenerateCode(project)
+                .emit(JBallerinaBackend.OutputType.EXEC, executablePath).successful());
+        Assert.assertEquals(getJarEntries(executablePath), expectedEntries);
+        Assert.assertEquals(Files.getLastModifiedTime(layerPath), layerModifiedTime);
+    }
+
+    private List<String> getJarEntries(Path jarPath) throws IOException {
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            return jarFile.stream().map(JarEntry::getName).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private BuildProject loadProject(Path projectPath,
+                                     TestCompilationCacheFactory testCompCacheFactory,
+                                     BuildOptions buildOptions) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        return BuildProject.load(environmentBuilder, projectPath, buildOptions);
+    }
+
+    private JBallerinaBackend compileAndGenerateCode(BuildProject project) {
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        return jBallerinaBackend;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -125,14 +238,22 @@ public class TestBirAndJarCache {
      */
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
-        public int jarCachedCount;
+        // Jars of different modules may be cached concurrently when the code is generated in parallel
+        public AtomicInteger jarCachedCount = new AtomicInteger();
 
         public TestCompilationCache(Project project, Path cacheDirPath) {
             super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
         }
 
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            // Similar to the compilation cache of build projects, the BIR is only reused if it is up to date
+            return new byte[0];
+        }
+
         @Override
         public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+            removeCachedBir(moduleName);
             super.cacheBir(moduleName, birContent);
             birCachedCount++;
         }
@@ -142,7 +263,7 @@ public class TestBirAndJarCache {
                                                  String libraryName,
                                                  ByteArrayOutputStream libraryContent) {
             super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
-            jarCachedCount++;
+            jarCachedCount.incrementAndGet();
         }
     }
 }
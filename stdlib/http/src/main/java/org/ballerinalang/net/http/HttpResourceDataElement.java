@@ -27,7 +27,9 @@ import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.net.http.HttpErrorType.GENERIC_LISTENER_ERROR;
@@ -38,6 +40,12 @@ import static org.ballerinalang.net.http.HttpErrorType.GENERIC_LISTENER_ERROR;
 public class HttpResourceDataElement implements DataElement<HttpResource, HttpCarbonMessage> {
 
     private List<HttpResource> resource;
+    /**
+     * Resources by the methods they accept, and the resource which accepts any method, so that a resource is
+     * selected by a single lookup instead of going through the method list of each resource.
+     */
+    private final Map<String, HttpResource> resourcesByMethod = new HashMap<>();
+    private HttpResource defaultResource;
     private boolean isFirstTraverse = true;
     private boolean hasData = false;
 
@@ -51,6 +59,7 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         if (isFirstTraverse) {
             this.resource = new ArrayList<>();
             this.resource.add(newResource);
+            addToMethodTable(newResource);
             isFirstTraverse = false;
             hasData = true;
             return;
@@ -66,6 +75,7 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
                 }
             }
             this.resource.add(newResource);
+            addToMethodTable(newResource);
             hasData = true;
             return;
         }
@@ -79,16 +89,30 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
             }
         });
         this.resource.add(newResource);
+        addToMethodTable(newResource);
         hasData = true;
     }
 
+    private void addToMethodTable(HttpResource newResource) {
+        List<String> methods = newResource.getMethods();
+        if (methods == null) {
+            if (defaultResource == null) {
+                defaultResource = newResource;
+            }
+            return;
+        }
+        for (String method : methods) {
+            resourcesByMethod.putIfAbsent(method, newResource);
+        }
+    }
+
     @Override
     public boolean getData(HttpCarbonMessage carbonMessage, DataReturnAgent<HttpResource> dataReturnAgent) {
         try {
             if (this.resource == null) {
                 return false;
             }
-            HttpResource httpResource = validateHTTPMethod(this.resource, carbonMessage);
+            HttpResource httpResource = validateHTTPMethod(carbonMessage);
             if (httpResource == null) {
                 return isOptionsRequest(carbonMessage);
             }
@@ -108,18 +132,12 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         return inboundMessage.getHeader(HttpHeaderNames.ALLOW.toString()) != null;
     }
 
-    private HttpResource validateHTTPMethod(List<HttpResource> resources, HttpCarbonMessage carbonMessage) {
-        HttpResource httpResource = null;
+    private HttpResource validateHTTPMethod(HttpCarbonMessage carbonMessage) {
         boolean isOptionsRequest = false;
         String httpMethod = carbonMessage.getHttpMethod();
-        for (HttpResource resourceInfo : resources) {
-            if (DispatcherUtil.isMatchingMethodExist(resourceInfo, httpMethod)) {
-                httpResource = resourceInfo;
-                break;
-            }
-        }
+        HttpResource httpResource = resourcesByMethod.get(httpMethod);
         if (httpResource == null) {
-            httpResource = tryMatchingToDefaultVerb(resources);
+            httpResource = defaultResource;
         }
         if (httpResource == null) {
             isOptionsRequest = setAllowHeadersIfOPTIONS(httpMethod, carbonMessage);
@@ -134,16 +152,6 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         return null;
     }
 
-    private HttpResource tryMatchingToDefaultVerb(List<HttpResource> resources) {
-        for (HttpResource resourceInfo : resources) {
-            if (resourceInfo.getMethods() == null) {
-                //this means, no method mentioned in the dataElement, hence it has all the methods by default.
-                return resourceInfo;
-            }
-        }
-        return null;
-    }
-
     private boolean setAllowHeadersIfOPTIONS(String httpMethod, HttpCarbonMessage cMsg) {
         if (httpMethod.equals(HttpConstants.HTTP_METHOD_OPTIONS)) {
             cMsg.setHeader(HttpHeaderNames.ALLOW.toString(), getAllowHeaderValues(cMsg));
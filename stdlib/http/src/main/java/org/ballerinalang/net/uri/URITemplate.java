@@ -23,6 +23,7 @@ import org.ballerinalang.net.uri.parser.DataElement;
 import org.ballerinalang.net.uri.parser.DataElementFactory;
 import org.ballerinalang.net.uri.parser.DataReturnAgent;
 import org.ballerinalang.net.uri.parser.Node;
+import org.ballerinalang.net.uri.parser.PathCaptures;
 import org.ballerinalang.net.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
@@ -35,6 +36,9 @@ import java.io.UnsupportedEncodingException;
  **/
 public class URITemplate<DataType, InboundMsgType> {
 
+    // Requests are matched on the I/O threads, each of which reuses its captures for the requests it matches
+    private static final ThreadLocal<PathCaptures> PATH_CAPTURES = ThreadLocal.withInitial(PathCaptures::new);
+
     private Node<DataType, InboundMsgType> syntaxTree;
 
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
@@ -43,9 +47,20 @@ public class URITemplate<DataType, InboundMsgType> {
 
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
-        boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
-        if (isFound) {
-            return dataReturnAgent.getData();
+        PathCaptures captures = PATH_CAPTURES.get();
+        if (captures.isInUse()) {
+            // A uri is matched while matching another one on the same thread
+            captures = new PathCaptures();
+        }
+        captures.reset(uri);
+        try {
+            boolean isFound = syntaxTree.matchAll(uri, 0, captures, inboundMsg, dataReturnAgent);
+            if (isFound) {
+                captures.copyTo(variables.getMap());
+                return dataReturnAgent.getData();
+            }
+        } finally {
+            captures.clear();
         }
         if (dataReturnAgent.getError() != null) {
             throw dataReturnAgent.getError();
@@ -18,7 +18,6 @@
 
 package org.ballerinalang.net.uri.parser;
 
-import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 import org.ballerinalang.net.uri.URIUtil;
 
@@ -39,31 +38,25 @@ public class DotSuffixExpression<DataType, InboundMsgType> extends SimpleStringE
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        String pathSegment = uriFragment;
-        if (uriFragment.contains(URIUtil.URI_PATH_DELIMITER)) {
-            pathSegment = uriFragment.substring(0, uriFragment.indexOf(URIUtil.URI_PATH_DELIMITER));
-        }
-        String[] subSegments = pathSegment.split("\\.");
-
-        int endCharacterCount = subSegments.length - 1;
+    int match(String uri, int start, PathCaptures captures) {
+        int endCharacterCount = countDotSegments(uri, start, segmentEnd(uri, start)) - 1;
         int dotSegmentCounter = 0;
-        int length = uriFragment.length();
+        int length = uri.length() - start;
 
         for (int i = 0; i < length; i++) {
-            char ch = uriFragment.charAt(i);
+            char ch = uri.charAt(start + i);
             if (isEndCharacter(ch)) {
                 dotSegmentCounter++;
                 if (dotSegmentCounter != endCharacterCount) {
                     continue;
                 }
 
-                if (!setVariables(uriFragment.substring(0, i), variables)) {
+                if (!captures.add(this, start, start + i)) {
                     return -1;
                 }
                 return i;
             } else if (i == length - 1) {
-                if (!setVariables(uriFragment, variables)) {
+                if (!captures.add(this, start, uri.length())) {
                     return -1;
                 }
                 return length;
@@ -72,6 +65,30 @@ public class DotSuffixExpression<DataType, InboundMsgType> extends SimpleStringE
         return 0;
     }
 
+    /**
+     * Counts the sub segments of a path segment separated by dots, the same way {@link String#split(String)} would,
+     * i.e. trailing empty sub segments are not counted unless the path segment is empty.
+     */
+    private static int countDotSegments(String uri, int start, int end) {
+        if (start == end) {
+            return 1;
+        }
+        int last = end - 1;
+        while (last >= start && uri.charAt(last) == URIUtil.DOT_SEGMENT) {
+            last--;
+        }
+        if (last < start) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = start; i < last; i++) {
+            if (uri.charAt(i) == URIUtil.DOT_SEGMENT) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     protected boolean isEndCharacter(Character endCharacter) {
         for (Node childNode : childNodesList) {
             if (endCharacter == childNode.getFirstCharacter() && endCharacter == URIUtil.DOT_SEGMENT) {
@@ -19,7 +19,6 @@
 package org.ballerinalang.net.uri.parser;
 
 
-import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
 import java.util.Map;
@@ -48,40 +47,30 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
+    int match(String uri, int start, PathCaptures captures) {
+        int fragmentLength = uri.length() - start;
         if (!token.endsWith("*")) {
-            if (uriFragment.length() < tokenLength) {
+            if (fragmentLength < tokenLength || !uri.regionMatches(start, token, 0, tokenLength)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (token.charAt(i) == '*' && i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
             //special case request urls which contains only the root("/") to be dispatched to default resource("/*").
-            if (uriFragment.equals("/") && uriFragment.equals(token) && !this.dataElement.hasData()) {
+            if (fragmentLength == 1 && uri.charAt(start) == '/' && token.equals("/") && !this.dataElement.hasData()) {
                 return 0;
             }
             return tokenLength;
         } else {
-            if (uriFragment.length() < tokenLength - 1) {
+            if (fragmentLength < tokenLength - 1 || !uri.regionMatches(start, token, 0, tokenLength - 1)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength - 1; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
-            return uriFragment.length();
+            return fragmentLength;
         }
     }
 
+    @Override
+    boolean isWildcard() {
+        return token.equals("*");
+    }
+
     @Override
     String getToken() {
         return token;
@@ -18,25 +18,40 @@
 
 package org.ballerinalang.net.uri.parser;
 
-import org.ballerinalang.net.http.HttpConstants;
-import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Node represents different types of path segments in the uri-template.
+ * <p>
+ * Children of a node are ordered once when they are added, and the literal children are indexed by their first
+ * character, so that only the literals which could match a path segment are tried while matching. A uri is matched
+ * by its index, without creating substrings for each path segment.
  *
  * @param <DataType> Type of data which should be stored in the node.
  * @param <InboundMsgType> Inbound message type for additional checks.
  */
 public abstract class Node<DataType, InboundMsgType> {
 
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final char[] NO_CHARACTERS = new char[0];
+
     protected String token;
     DataElement<DataType, InboundMsgType> dataElement;
-    List<Node<DataType, InboundMsgType>> childNodesList = new LinkedList<>();
+    List<Node<DataType, InboundMsgType>> childNodesList = new ArrayList<>();
+
+    /**
+     * Sorted first characters of the literal children, and the literal children starting with each of them.
+     */
+    private char[] literalFirstCharacters = NO_CHARACTERS;
+    private Node<DataType, InboundMsgType>[][] literalChildren = new Node[0][];
+    /**
+     * Expression children and the wildcard child, which could match any path segment.
+     */
+    private Node<DataType, InboundMsgType>[] otherChildren = NO_CHILDREN;
 
     protected Node(DataElement<DataType, InboundMsgType> dataElement, String token) {
         this.dataElement = dataElement;
@@ -58,72 +73,151 @@ public abstract class Node<DataType, InboundMsgType> {
         }
 
         childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
+        indexChildren();
 
         return node;
     }
 
-    public boolean matchAll(String uriFragment, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
+    @SuppressWarnings("unchecked")
+    private void indexChildren() {
+        List<Character> firstCharacters = new ArrayList<>();
+        List<List<Node<DataType, InboundMsgType>>> literals = new ArrayList<>();
+        List<Node<DataType, InboundMsgType>> others = new ArrayList<>();
+        for (Node<DataType, InboundMsgType> childNode : childNodesList) {
+            if (!(childNode instanceof Literal) || childNode.isWildcard()) {
+                others.add(childNode);
+                continue;
+            }
+            char firstCharacter = childNode.getFirstCharacter();
+            int index = firstCharacters.indexOf(firstCharacter);
+            if (index < 0) {
+                // Keep the characters sorted, so that they could be binary searched
+                index = 0;
+                while (index < firstCharacters.size() && firstCharacters.get(index) < firstCharacter) {
+                    index++;
+                }
+                firstCharacters.add(index, firstCharacter);
+                literals.add(index, new ArrayList<>());
+            }
+            literals.get(index).add(childNode);
+        }
+
+        literalFirstCharacters = new char[firstCharacters.size()];
+        literalChildren = new Node[firstCharacters.size()][];
+        for (int i = 0; i < literalFirstCharacters.length; i++) {
+            literalFirstCharacters[i] = firstCharacters.get(i);
+            literalChildren[i] = literals.get(i).toArray(NO_CHILDREN);
+        }
+        otherChildren = others.toArray(NO_CHILDREN);
+    }
+
+    /**
+     * Matches the part of the uri starting from the given index against this node and its children.
+     *
+     * @param uri             uri to be matched
+     * @param start           index of the uri which this node should match from
+     * @param captures        segments captured by the expressions in the matching path of the template
+     * @param inboundMsg      inbound message for the additional checks of the data element
+     * @param dataReturnAgent agent which the data of the matching node is returned through
+     * @return true if the uri matches this node or one of its children
+     */
+    public boolean matchAll(String uri, int start, PathCaptures captures, InboundMsgType inboundMsg,
                             DataReturnAgent<DataType> dataReturnAgent) {
-        int matchLength = match(uriFragment, variables);
+        int fragmentLength = uri.length() - start;
+        int matchLength = match(uri, start, captures);
         if (matchLength < 0) {
             return false;
         }
-        if (matchLength == uriFragment.length()) {
+        if (matchLength == fragmentLength) {
             return dataElement.getData(inboundMsg, dataReturnAgent);
         }
-        if (matchLength >= uriFragment.length()) {
+        if (matchLength > fragmentLength) {
             return false;
         }
-        String subUriFragment = nextURIFragment(uriFragment, matchLength);
-        String subPath = nextSubPath(subUriFragment);
+        int childStart = nextFragmentStart(uri, start, matchLength);
+        int capturesSize = captures.size();
 
-        boolean isFound;
-        for (Node<DataType, InboundMsgType> childNode : childNodesList) {
-            if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
+        if (childStart < uri.length()) {
+            int index = binarySearch(literalFirstCharacters, uri.charAt(childStart));
+            if (index >= 0) {
+                for (Node<DataType, InboundMsgType> childNode : literalChildren[index]) {
+                    String literal = childNode.getToken();
+                    // A literal ending with a wildcard is matched only if the segment contains the literal as is
+                    if (literal.endsWith("*") && !segmentContains(uri, childStart, literal)) {
                         continue;
                     }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                                 dataReturnAgent);
-                    if (isFound) {
-                        setUriPostFix(variables, subUriFragment);
+                    if (childNode.matchAll(uri, childStart, captures, inboundMsg, dataReturnAgent)) {
                         return true;
                     }
-                    continue;
-                }
-                if (!subPath.contains(regex)) {
-                    continue;
+                    captures.truncate(capturesSize);
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                             dataReturnAgent);
-                if (isFound) {
-                    return true;
+            }
+        }
+        for (Node<DataType, InboundMsgType> childNode : otherChildren) {
+            if (childNode.matchAll(uri, childStart, captures, inboundMsg, dataReturnAgent)) {
+                if (childNode.isWildcard()) {
+                    captures.setExtraPathStart(childStart);
                 }
-                continue;
+                return true;
             }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                         dataReturnAgent);
-            if (isFound) {
+            captures.truncate(capturesSize);
+        }
+        return false;
+    }
+
+    private static int binarySearch(char[] characters, char character) {
+        int low = 0;
+        int high = characters.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (characters[mid] < character) {
+                low = mid + 1;
+            } else if (characters[mid] > character) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean segmentContains(String uri, int start, String literal) {
+        int segmentEnd = segmentEnd(uri, start);
+        for (int i = start; i + literal.length() <= segmentEnd; i++) {
+            if (uri.startsWith(literal, i)) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean hasDataElement(DataElement<DataType, InboundMsgType> dataElement) {
-        return dataElement != null && dataElement.hasData();
+    /**
+     * Finds the end of the path segment which starts from the given index.
+     *
+     * @param uri   uri
+     * @param start start index of the segment
+     * @return index of the next path delimiter, or the length of the uri if there's none
+     */
+    static int segmentEnd(String uri, int start) {
+        int segmentEnd = uri.indexOf('/', start);
+        return segmentEnd < 0 ? uri.length() : segmentEnd;
     }
 
-    private void setUriPostFix(HttpResourceArguments variables, String subUriFragment) {
-        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + subUriFragment);
+    private boolean hasDataElement(DataElement<DataType, InboundMsgType> dataElement) {
+        return dataElement != null && dataElement.hasData();
     }
 
     abstract String expand(Map<String, String> variables);
 
-    abstract int match(String uriFragment, HttpResourceArguments variables);
+    /**
+     * Matches the part of the uri starting from the given index against this node.
+     *
+     * @param uri      uri to be matched
+     * @param start    index of the uri which this node should match from
+     * @param captures segments captured by the expressions in the matching path of the template
+     * @return number of characters matched, or -1 if the uri does not match this node
+     */
+    abstract int match(String uri, int start, PathCaptures captures);
 
     abstract String getToken();
 
@@ -177,29 +271,17 @@ public abstract class Node<DataType, InboundMsgType> {
         }
     }
 
-    private String nextURIFragment(String uri, int matchLength) {
-        String uriFragment = uri;
-        if (uriFragment.startsWith("/")) {
-            uriFragment = uriFragment.substring(matchLength);
-        } else if (uriFragment.contains("/")) {
-            if (uriFragment.charAt(matchLength) == '/') {
-                uriFragment = uriFragment.substring(matchLength + 1);
-            } else {
-                uriFragment = uriFragment.substring(matchLength);
-            }
-        } else {
-            uriFragment = uriFragment.substring(matchLength);
-        }
-        return uriFragment;
+    boolean isWildcard() {
+        return false;
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains("/")) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf("/"));
-        } else {
-            subPath = uriFragment;
+    private int nextFragmentStart(String uri, int start, int matchLength) {
+        if (uri.charAt(start) == '/') {
+            return start + matchLength;
+        }
+        if (uri.charAt(start + matchLength) == '/') {
+            return start + matchLength + 1;
         }
-        return subPath;
+        return start + matchLength;
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri.parser;
+
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Holds the path segments captured by the expressions of the uri-template while a uri is matched.
+ * <p>
+ * Only the positions of the segments in the uri are kept while matching, and the captures of a branch of the
+ * template tree are discarded when the branch does not match. The values are decoded and copied to the path
+ * parameters only once the uri has matched.
+ *
+ * @since 2.0.0
+ */
+public class PathCaptures {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private String uri;
+    private Expression<?, ?>[] expressions;
+    private int[] starts;
+    private int[] ends;
+    private int size = 0;
+    private int extraPathStart = -1;
+
+    /**
+     * Starts capturing the segments of the given uri, discarding the captures of the previous uri. The arrays of
+     * the captures are kept, so that the captures could be reused for the uris matched by a thread.
+     *
+     * @param uri uri to be matched
+     */
+    public void reset(String uri) {
+        this.uri = uri;
+        this.size = 0;
+        this.extraPathStart = -1;
+    }
+
+    /**
+     * Releases the uri once it is matched. The expressions are kept, since they belong to the uri-template.
+     */
+    public void clear() {
+        reset(null);
+    }
+
+    /**
+     * Checks whether a uri is being matched with these captures.
+     *
+     * @return true if the captures are in use
+     */
+    public boolean isInUse() {
+        return uri != null;
+    }
+
+    /**
+     * Copies the decoded values of the captured segments and the path matched by a wildcard to the given map.
+     *
+     * @param variables map of path parameter values by their names
+     */
+    public void copyTo(Map<String, String> variables) {
+        for (int i = 0; i < size; i++) {
+            String value = expressions[i].decodeValue(uri.substring(starts[i], ends[i]));
+            for (Variable var : expressions[i].variableList) {
+                variables.put(var.getName(), value);
+            }
+        }
+        if (extraPathStart >= 0) {
+            variables.putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + uri.substring(extraPathStart));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Discards the captures added after the given number of captures.
+     *
+     * @param size number of captures to be kept
+     */
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Captures a segment of the uri for the variables of the given expression, if the value satisfies the variables.
+     *
+     * @param expression expression which matched the segment
+     * @param start      start index of the segment in the uri
+     * @param end        end index of the segment in the uri
+     * @return true if the segment is captured
+     */
+    boolean add(Expression<?, ?> expression, int start, int end) {
+        String value = null;
+        for (Variable var : expression.variableList) {
+            String capturedValue = getValue(var.getName());
+            if (capturedValue == null && !var.hasPrefix()) {
+                continue;
+            }
+            if (value == null) {
+                value = expression.decodeValue(uri.substring(start, end));
+            }
+            if (capturedValue != null && !capturedValue.equals(value)) {
+                return false;
+            }
+            if (!var.checkModifier(value)) {
+                return false;
+            }
+        }
+        ensureCapacity();
+        expressions[size] = expression;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+        return true;
+    }
+
+    /**
+     * Records the start of the part of the uri matched by a wildcard, unless a wildcard deeper in the template has
+     * already matched.
+     *
+     * @param start start index of the part matched by the wildcard
+     */
+    void setExtraPathStart(int start) {
+        if (extraPathStart < 0) {
+            extraPathStart = start;
+        }
+    }
+
+    private String getValue(String name) {
+        for (int i = size - 1; i >= 0; i--) {
+            for (Variable var : expressions[i].variableList) {
+                if (var.getName().equals(name)) {
+                    return expressions[i].decodeValue(uri.substring(starts[i], ends[i]));
+                }
+            }
+        }
+        return null;
+    }
+
+    private void ensureCapacity() {
+        if (expressions == null) {
+            expressions = new Expression<?, ?>[INITIAL_CAPACITY];
+            starts = new int[INITIAL_CAPACITY];
+            ends = new int[INITIAL_CAPACITY];
+        } else if (size == expressions.length) {
+            expressions = Arrays.copyOf(expressions, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+    }
+}
@@ -18,7 +18,6 @@
 
 package org.ballerinalang.net.uri.parser;
 
-import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
 import java.util.Map;
@@ -67,21 +66,21 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        int length = uriFragment.length();
+    int match(String uri, int start, PathCaptures captures) {
+        int length = uri.length() - start;
         for (int i = 0; i < length; i++) {
-            char ch = uriFragment.charAt(i);
+            char ch = uri.charAt(start + i);
             if (isEndCharacter(ch)) {
                 if (ch == getSeparator() && variableList.size() > 0) {
                     continue;
                 }
 
-                if (!setVariables(uriFragment.substring(0, i), variables)) {
+                if (!captures.add(this, start, start + i)) {
                     return -1;
                 }
                 return i;
             } else if (i == length - 1) {
-                if (!setVariables(uriFragment, variables)) {
+                if (!captures.add(this, start, uri.length())) {
                     return -1;
                 }
                 return length;
@@ -103,22 +102,6 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
         return ',';
     }
 
-    boolean setVariables(String expressionValue, HttpResourceArguments variables) {
-        String finalValue = decodeValue(expressionValue);
-        for (Variable var : variableList) {
-            String name = var.getName();
-            if (variables.getMap().containsKey(name) && !finalValue.equals(variables.getMap().get(name))) {
-                return false;
-            }
-            if (var.checkModifier(finalValue)) {
-                variables.getMap().put(name, finalValue);
-            } else {
-                return false;
-            }
-        }
-        return true;
-    }
-
     protected boolean isReserved(char ch) {
         for (char reservedChar : RESERVED) {
             if (ch == reservedChar) {
@@ -808,4 +808,64 @@ public class UriTemplateBestMatchTest {
         Assert.assertEquals(((BMap<String, BValue>) bJson).get("xxx").stringValue(), "123", "wrong param value");
         Assert.assertEquals(((BMap<String, BValue>) bJson).get("yyy").stringValue(), "456", "wrong param value");
     }
+
+    @Test(description = "Test path params captured after backtracking from a branch which does not match.")
+    public void testPathParamsAfterBacktracking() {
+        // The literal branch captures 'other' for id before failing at 'more'
+        BMap<String, BValue> bJson = getJsonResponse("/match/john/first/other/more");
+        Assert.assertEquals(bJson.get("branch").stringValue(), "expression", "Request dispatched to wrong resource");
+        Assert.assertEquals(bJson.get("name").stringValue(), "john", "wrong param value");
+        Assert.assertEquals(bJson.get("id").stringValue(), "first", "wrong param value");
+
+        bJson = getJsonResponse("/match/john/first/x/last");
+        Assert.assertEquals(bJson.get("branch").stringValue(), "literal", "Request dispatched to wrong resource");
+        Assert.assertEquals(bJson.get("name").stringValue(), "john", "wrong param value");
+        Assert.assertEquals(bJson.get("id").stringValue(), "x", "wrong param value");
+
+        // The 'index' literal does not match the rest of the path, hence 'index' is captured for name
+        bJson = getJsonResponse("/match/index/first/x/last");
+        Assert.assertEquals(bJson.get("branch").stringValue(), "literal", "Request dispatched to wrong resource");
+        Assert.assertEquals(bJson.get("name").stringValue(), "index", "wrong param value");
+        Assert.assertEquals(bJson.get("id").stringValue(), "x", "wrong param value");
+    }
+
+    @Test(description = "Test dispatching to literals which start with the same character.")
+    public void testLiteralsWithSameFirstCharacter() {
+        Assert.assertEquals(getJsonResponse("/match/index/abc").get("value").stringValue(), "abc",
+                            "Request dispatched to wrong resource");
+        Assert.assertEquals(getJsonResponse("/match/index/abd").get("value").stringValue(), "abd",
+                            "Request dispatched to wrong resource");
+        Assert.assertEquals(getJsonResponse("/match/index/b").get("value").stringValue(), "b",
+                            "Request dispatched to wrong resource");
+        // Segments which start like a literal but do not match any of them are matched by the path param
+        Assert.assertEquals(getJsonResponse("/match/index/ab").get("value").stringValue(), "param ab",
+                            "Request dispatched to wrong resource");
+        Assert.assertEquals(getJsonResponse("/match/index/bc").get("value").stringValue(), "param bc",
+                            "Request dispatched to wrong resource");
+        Assert.assertEquals(getJsonResponse("/match/index/xyz").get("value").stringValue(), "param xyz",
+                            "Request dispatched to wrong resource");
+    }
+
+    @Test(description = "Test extra path info of a wildcard matched after backtracking from a literal.")
+    public void testWildcardExtraPathInfo() {
+        BMap<String, BValue> bJson = getJsonResponse("/match/wild/1/a/b");
+        Assert.assertEquals(bJson.get("id").stringValue(), "1", "wrong param value");
+        Assert.assertEquals(bJson.get("extra").stringValue(), "/a/b", "Wrong extra path info");
+
+        bJson = getJsonResponse("/match/wild/2/a/c/d");
+        Assert.assertEquals(bJson.get("id").stringValue(), "2", "wrong param value");
+        Assert.assertEquals(bJson.get("extra").stringValue(), "/a/c/d", "Wrong extra path info");
+
+        bJson = getJsonResponse("/match/wild/3/a/c");
+        Assert.assertEquals(bJson.get("id").stringValue(), "3", "wrong param value");
+        Assert.assertEquals(bJson.get("extra").stringValue(), "none", "Request dispatched to wrong resource");
+    }
+
+    private BMap<String, BValue> getJsonResponse(String path) {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, "GET");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        return (BMap<String, BValue>) JsonParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+    }
 }
@@ -0,0 +1,186 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URITemplateException;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class for matching uris on the compiled uri-template tree, without dispatching to a service.
+ */
+public class UriTemplateMatchingTest {
+
+    private static final String[] TEMPLATES = {
+            "/{name}/first/{id}/last", "/{name}/{id}/other/more", "/index/abc", "/index/abd", "/index/b",
+            "/index/{value}", "/wild/{id}/*", "/wild/{id}/a/c"
+    };
+
+    private URITemplate<String, Object> uriTemplate;
+
+    @BeforeClass
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate = new URITemplate<>(new Literal<>(new TemplateElement(), "/"));
+        for (String template : TEMPLATES) {
+            uriTemplate.parse(template, template, TemplateElement::new);
+        }
+    }
+
+    @Test(description = "Test path params captured after backtracking from a branch which does not match.")
+    public void testPathParamsAfterBacktracking() {
+        // The literal branch captures 'other' for id before failing at 'more'
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/john/first/other/more", arguments, null),
+                            "/{name}/{id}/other/more");
+        Assert.assertEquals(arguments.getMap().get("name"), "john");
+        Assert.assertEquals(arguments.getMap().get("id"), "first");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/john/first/x/last", arguments, null), "/{name}/first/{id}/last");
+        Assert.assertEquals(arguments.getMap().get("name"), "john");
+        Assert.assertEquals(arguments.getMap().get("id"), "x");
+
+        // The 'index' literal does not match the rest of the path, hence 'index' is captured for name
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/index/first/x/last", arguments, null), "/{name}/first/{id}/last");
+        Assert.assertEquals(arguments.getMap().get("name"), "index");
+        Assert.assertEquals(arguments.getMap().get("id"), "x");
+    }
+
+    @Test(description = "Test matching literals which start with the same character.")
+    public void testLiteralsWithSameFirstCharacter() {
+        Assert.assertEquals(uriTemplate.matches("/index/abc", new HttpResourceArguments(), null), "/index/abc");
+        Assert.assertEquals(uriTemplate.matches("/index/abd", new HttpResourceArguments(), null), "/index/abd");
+        Assert.assertEquals(uriTemplate.matches("/index/b", new HttpResourceArguments(), null), "/index/b");
+        // Segments which start like a literal but do not match any of them are matched by the path param
+        Assert.assertEquals(match("/index/ab").get("value"), "ab");
+        Assert.assertEquals(match("/index/bc").get("value"), "bc");
+        Assert.assertEquals(match("/index/xyz").get("value"), "xyz");
+    }
+
+    @Test(description = "Test extra path info of a wildcard matched after backtracking from a literal.")
+    public void testWildcardExtraPathInfo() {
+        Map<String, String> arguments = match("/wild/1/a/b");
+        Assert.assertEquals(arguments.get("id"), "1");
+        Assert.assertEquals(arguments.get(HttpConstants.EXTRA_PATH_INFO), "/a/b");
+
+        arguments = match("/wild/2/a/c/d");
+        Assert.assertEquals(arguments.get("id"), "2");
+        Assert.assertEquals(arguments.get(HttpConstants.EXTRA_PATH_INFO), "/a/c/d");
+
+        HttpResourceArguments sibling = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/wild/3/a/c", sibling, null), "/wild/{id}/a/c");
+        Assert.assertEquals(sibling.getMap().get("id"), "3");
+        Assert.assertNull(sibling.getMap().get(HttpConstants.EXTRA_PATH_INFO));
+    }
+
+    @Test(description = "Test matching a uri while another uri is being matched on the same thread.")
+    public void testNestedMatch() throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Object> outerTemplate = new URITemplate<>(new Literal<>(new TemplateElement(), "/"));
+        HttpResourceArguments innerArguments = new HttpResourceArguments();
+        // The element of the outer template matches a uri on the inner template before it returns its data
+        outerTemplate.parse("/outer/{id}", "/outer/{id}", () -> new TemplateElement() {
+            @Override
+            public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+                Assert.assertEquals(uriTemplate.matches("/index/nested", innerArguments, null), "/index/{value}");
+                return super.getData(inboundMessage, dataReturnAgent);
+            }
+        });
+
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(outerTemplate.matches("/outer/42", arguments, null), "/outer/{id}");
+        Assert.assertEquals(arguments.getMap().get("id"), "42");
+        Assert.assertNull(arguments.getMap().get("value"));
+        Assert.assertEquals(innerArguments.getMap().get("value"), "nested");
+        Assert.assertNull(innerArguments.getMap().get("id"));
+    }
+
+    @Test(description = "Test matching uris on several threads at once.")
+    public void testConcurrentMatches() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String id = String.valueOf(i);
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        Map<String, String> arguments = match("/wild/" + id + "/a/b");
+                        if (!id.equals(arguments.get("id")) ||
+                                !"/a/b".equals(arguments.get(HttpConstants.EXTRA_PATH_INFO))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(), "Path params of another match were captured");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, String> match(String uri) {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertNotNull(uriTemplate.matches(uri, arguments, null), "No template matched " + uri);
+        return arguments.getMap();
+    }
+
+    /**
+     * Data element which holds the template of a resource.
+     */
+    private static class TemplateElement implements DataElement<String, Object> {
+
+        private String template;
+
+        @Override
+        public void setData(String template) {
+            this.template = template;
+        }
+
+        @Override
+        public boolean hasData() {
+            return template != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (template == null) {
+                return false;
+            }
+            dataReturnAgent.setData(template);
+            return true;
+        }
+    }
+}
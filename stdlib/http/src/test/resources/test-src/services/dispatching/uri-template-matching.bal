@@ -516,3 +516,73 @@ service URLEncodeService on testEP {
         checkpanic caller->respond(res);
     }
 }
+
+@http:ServiceConfig {
+    basePath:"/match"
+}
+service MatchingService on testEP {
+
+    @http:ResourceConfig {
+        path:"/{name}/first/{id}/last"
+    }
+    resource function literalBranch(http:Caller caller, http:Request req, string name, string id) {
+        json responseJson = {branch:"literal", name:name, id:id};
+        checkpanic caller->respond(<@untainted> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/{name}/{id}/other/more"
+    }
+    resource function expressionBranch(http:Caller caller, http:Request req, string name, string id) {
+        json responseJson = {branch:"expression", name:name, id:id};
+        checkpanic caller->respond(<@untainted> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/index/abc"
+    }
+    resource function literalAbc(http:Caller caller, http:Request req) {
+        json responseJson = {value:"abc"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/index/abd"
+    }
+    resource function literalAbd(http:Caller caller, http:Request req) {
+        json responseJson = {value:"abd"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/index/b"
+    }
+    resource function literalB(http:Caller caller, http:Request req) {
+        json responseJson = {value:"b"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/index/{value}"
+    }
+    resource function indexParam(http:Caller caller, http:Request req, string value) {
+        json responseJson = {value:"param " + value};
+        checkpanic caller->respond(<@untainted> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/wild/{id}/*"
+    }
+    resource function wildcard(http:Caller caller, http:Request req, string id) {
+        json responseJson = {id:id, extra:req.extraPathInfo};
+        checkpanic caller->respond(<@untainted> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/wild/{id}/a/c"
+    }
+    resource function wildcardSibling(http:Caller caller, http:Request req, string id) {
+        json responseJson = {id:id, extra:"none"};
+        checkpanic caller->respond(<@untainted> responseJson);
+    }
+}
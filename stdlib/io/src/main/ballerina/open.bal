@@ -22,8 +22,10 @@ import ballerina/jballerina.java;
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + memoryMapped - Whether to read the file by mapping it to memory, which is faster for large files
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, boolean memoryMapped = false)
+    returns ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -35,6 +35,19 @@ public class ReadableByteChannel {
         return byteReadExtern(self, nBytes);
     }
 
+# Transfers the remaining content of this channel to the given channel. Content of files is transferred without
+# being read into memory, and other content is copied without creating byte arrays.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The channel the content should be written to
+# + return - Number of bytes transferred, an `EofError` if the channel has already reached the end or else an
+#            `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return byteTransferToExtern(self, destination);
+    }
+
 # Encodes a given `ReadableByteChannel` using the Base64 encoding scheme.
 # ```ballerina
 # ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
@@ -71,6 +84,12 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteTransferToExtern(ReadableByteChannel source, WritableByteChannel destination)
+    returns int|Error = @java:Method {
+    name: "transferTo",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
@@ -64,6 +64,20 @@ public class ReadableCharacterChannel {
         return readXmlExtern(self);
     }
 
+    # Reads the elements of the given path one at a time as a stream. An element is read only when the stream
+    # reaches it, hence large XML documents could be processed without reading the whole document into memory.
+    # ```ballerina
+    # stream<xml, io:Error?> entries = readableCharChannel.readXmlAsStream("feed", "entry");
+    # ```
+    #
+    # + path - Names of the elements from the root element to the elements, which should be read. The child
+    #          elements of the root element will be read if the path is not given
+    # + return - A stream of the read elements, which will complete with an `io:Error` if the XML cannot be read
+    public function readXmlAsStream(string... path) returns @tainted stream<xml, Error?> {
+        XmlElementIterator iterator = new (self, path);
+        return new stream<xml, Error?>(iterator);
+    }
+
     # Reads a property from a .properties file with a default value.
     # ```ballerina
     # string|io:Error result = readableCharChannel.readProperty(key, defaultValue);
@@ -118,6 +132,32 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+class XmlElementIterator {
+
+    isolated function init(ReadableCharacterChannel characterChannel, string[] path) {
+        initXmlElementIteratorExtern(self, characterChannel, path);
+    }
+
+    public isolated function next() returns record {| xml value; |}|Error? {
+        xml|Error? element = nextXmlElementExtern(self);
+        if (element is xml) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
+isolated function initXmlElementIteratorExtern(XmlElementIterator iterator, ReadableCharacterChannel characterChannel,
+                                               string[] path) = @java:Method {
+    name: "initXmlElementIterator",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+isolated function nextXmlElementExtern(XmlElementIterator iterator) returns @tainted xml|Error? = @java:Method {
+    name: "nextXmlElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readPropertyExtern(ReadableCharacterChannel characterChannel, string key, string defaultValue) returns
                             @tainted string|Error = @java:Method {
     name: "readProperty",
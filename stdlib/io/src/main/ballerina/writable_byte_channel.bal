@@ -36,6 +36,19 @@ public class WritableByteChannel {
         return byteWriteExtern(self, content, offset);
     }
 
+# Transfers the remaining content of the given channel to this channel. Content of files is transferred without
+# being read into memory, and other content is copied without creating byte arrays.
+# ```ballerina
+# int|io:Error result = writableByteChannel.transferFrom(readableByteChannel);
+# ```
+#
+# + source - The channel the content should be read from
+# + return - Number of bytes transferred, an `EofError` if the source has already reached the end or else an
+#            `io:Error`
+    public function transferFrom(ReadableByteChannel source) returns int|Error {
+        return byteTransferFromExtern(self, source);
+    }
+
 # Closes a given byte channel.
 # ```ballerina
 # io:Error err = writableByteChannel.close();
@@ -52,6 +65,12 @@ function byteWriteExtern(WritableByteChannel byteChannel, byte[] content, int of
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteTransferFromExtern(WritableByteChannel destination, ReadableByteChannel source)
+    returns int|Error = @java:Method {
+    name: "transferFrom",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function closeWritableByteChannelExtern(WritableByteChannel byteChannel) returns Error? = @java:Method {
     name: "closeByteChannel",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
@@ -21,6 +21,8 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -55,6 +57,56 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * Transfers the remaining content of the file to another file through {@link FileChannel#transferTo(long, long,
+     * WritableByteChannel)}, which allows the OS to copy the content from its cache without reading it into memory.
+     * Content is written to other channels through their {@link Channel#write(ByteBuffer)}, since they may
+     * encode or buffer the content written to them.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(Channel destination) throws IOException {
+        if (!(destination instanceof FileIOChannel)) {
+            return super.transferTo(destination);
+        }
+        ByteChannel target = destination.getByteChannel();
+        long position = getPosition();
+        long size = channel.size();
+        long transferred = 0;
+        while (position < size) {
+            long count = channel.transferTo(position, size - position, target);
+            if (count <= 0) {
+                //The destination could not accept any more bytes at the moment
+                break;
+            }
+            position += count;
+            transferred += count;
+        }
+        setPosition(position);
+        return transferred;
+    }
+
+    /**
+     * Gets the position the next bytes will be read from.
+     *
+     * @return the position of the file.
+     * @throws IOException during I/O error.
+     */
+    protected long getPosition() throws IOException {
+        return channel.position();
+    }
+
+    /**
+     * Sets the position the next bytes will be read from.
+     *
+     * @param position the new position of the file.
+     * @throws IOException during I/O error.
+     */
+    protected void setPosition(long position) throws IOException {
+        channel.position(position);
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
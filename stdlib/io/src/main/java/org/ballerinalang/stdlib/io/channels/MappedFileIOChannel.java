@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Represents a channel which reads a file by mapping it to memory.
+ * </p>
+ * <p>
+ * The file is mapped in regions of up to 2GB when the content is read, and bytes are copied from the mapped region
+ * instead of being read through the file channel. This avoids a system call and an intermediate copy for each read
+ * of a large file.
+ * </p>
+ * <p>
+ * A mapped region is otherwise released only once it is garbage collected, hence the region is unmapped when the
+ * next region is mapped and when the channel is closed. Accessing an unmapped region crashes the JVM, hence reads,
+ * mapping and closing are done while holding the lock of the channel, and the channel is not read once it is
+ * closed.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends FileIOChannel {
+
+    /**
+     * Maximum number of bytes which could be mapped at once.
+     */
+    private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private static final Logger log = LoggerFactory.getLogger(MappedFileIOChannel.class);
+
+    private final FileChannel channel;
+
+    /**
+     * Size of the file when the channel was created. Content appended later will not be read.
+     */
+    private final long size;
+
+    /**
+     * The currently mapped region of the file, which will be null until the first read.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * Position of the file the mapped region starts from.
+     */
+    private long regionStart;
+
+    /**
+     * Position of the file the next bytes will be read from.
+     */
+    private long position;
+
+    private boolean hasReachedToEnd = false;
+
+    private boolean closed = false;
+
+    public MappedFileIOChannel(FileChannel channel) throws IOException {
+        super(channel);
+        this.channel = channel;
+        this.size = channel.size();
+        this.position = channel.position();
+    }
+
+    /**
+     * Copies bytes from the mapped region of the file to the given buffer.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int read(ByteBuffer buffer) throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        if (position >= size) {
+            hasReachedToEnd = true;
+            return 0;
+        }
+        if (null == region || position >= regionStart + region.capacity()) {
+            mapRegion();
+        }
+        int offset = (int) (position - regionStart);
+        int count = Math.min(buffer.remaining(), region.capacity() - offset);
+        ByteBuffer content = region.duplicate();
+        content.position(offset);
+        content.limit(offset + count);
+        buffer.put(content);
+        position += count;
+        return count;
+    }
+
+    private void mapRegion() throws IOException {
+        unmapRegion();
+        long regionSize = Math.min(MAX_REGION_SIZE, size - position);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+        regionStart = position;
+    }
+
+    /**
+     * Unmaps the currently mapped region through sun.misc.Unsafe.invokeCleaner. If it is not available, the region
+     * is left to be unmapped when it is garbage collected.
+     */
+    private void unmapRegion() {
+        if (null == region) {
+            return;
+        }
+        MappedByteBuffer mappedRegion = region;
+        region = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            Object unsafe = f.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(unsafe, mappedRegion);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Mapped region of the file will be released when it is garbage collected", e);
+        }
+    }
+
+    /**
+     * Releases the mapped region before closing the file channel.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        unmapRegion();
+        super.close();
+    }
+
+    @Override
+    public boolean hasReachedEnd() {
+        return hasReachedToEnd;
+    }
+
+    @Override
+    protected synchronized long getPosition() {
+        return position;
+    }
+
+    @Override
+    protected synchronized void setPosition(long position) {
+        this.position = position;
+    }
+
+    @Override
+    public synchronized InputStream getInputStream() throws IOException {
+        //The stream will read through the file channel, hence it should continue from where the mapped reads ended
+        channel.position(position);
+        return super.getInputStream();
+    }
+}
@@ -55,6 +55,16 @@ public abstract class Channel implements IOChannel {
      */
     private boolean readable;
 
+    /**
+     * Size of the buffer used to copy content between channels, when content cannot be transferred directly.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Direct buffer used to copy content to other channels, which is allocated on the first transfer.
+     */
+    private ByteBuffer transferBuffer;
+
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
     /**
@@ -142,6 +152,37 @@ public abstract class Channel implements IOChannel {
         return byteChannel.write(content);
     }
 
+    /**
+     * <p>
+     * Transfers the remaining content of this channel to the given channel.
+     * </p>
+     * <p>
+     * The content is copied through a direct buffer, so that it is not copied into the heap. The buffer is allocated
+     * once and reused by subsequent transfers of this channel. Channels which could transfer their content without
+     * copying, i.e. files, will override this.
+     * </p>
+     *
+     * @param destination the channel the content should be written to.
+     * @return the number of bytes transferred.
+     * @throws IOException errors occur during reading from or writing to the channels.
+     */
+    public long transferTo(Channel destination) throws IOException {
+        if (null == transferBuffer) {
+            transferBuffer = ByteBuffer.allocateDirect(TRANSFER_BUFFER_SIZE);
+        }
+        ByteBuffer buffer = transferBuffer;
+        buffer.clear();
+        long transferred = 0;
+        while (read(buffer) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                transferred += destination.write(buffer);
+            }
+            buffer.clear();
+        }
+        return transferred;
+    }
+
     /**
      * This will return {@link InputStream} from underlying {@link ByteChannel}.
      *
@@ -171,6 +212,7 @@ public abstract class Channel implements IOChannel {
      */
     @Override
     public void close() throws IOException {
+        transferBuffer = null;
         if (null != byteChannel) {
             byteChannel.close();
         } else {
@@ -286,6 +286,27 @@ public class CharacterChannel implements IOChannel {
         }
     }
 
+    /**
+     * Reads characters from the channel into the given array, without creating intermediate strings.
+     * <p>
+     * Characters which remain in the character buffer are returned first, the channel is only read once the buffer
+     * is empty. Hence fewer characters than requested could be returned.
+     *
+     * @param destination the array the characters would be written to.
+     * @param offset      the index of the array the first character would be written to.
+     * @param length      maximum number of characters which should be read.
+     * @return number of characters which were read, 0 if the channel has reached its end.
+     * @throws BallerinaIOException during I/O error.
+     */
+    public int read(char[] destination, int offset, int length) throws BallerinaIOException {
+        if (null == charBuffer || !charBuffer.hasRemaining()) {
+            asyncReadBytesFromChannel(length * MAX_BYTES_PER_CHAR, length);
+        }
+        int numberOfCharactersRead = Math.min(length, getNumberOfCharactersRemaining());
+        charBuffer.get(destination, offset, numberOfCharactersRead);
+        return numberOfCharactersRead;
+    }
+
     /**
      * Read asynchronously from channel.
      *
@@ -23,8 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * <p>
@@ -92,7 +94,18 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Reads the records in a single pass when the separators are single characters. The records are split through
+     * the regular expressions given as separators otherwise, in which case this will be null.
+     */
+    private DelimitedRecordTokenizer tokenizer;
+
+    /**
+     * Holds the fields of the record being read through the tokenizer.
+     */
+    private final List<String> recordFields = new ArrayList<>();
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -100,6 +113,9 @@ public class DelimitedRecordChannel implements IOChannel {
         this.channel = channel;
         this.format = format;
         this.persistentCharSequence = new StringBuilder();
+        //All the formats separate records by "\r?\n"
+        this.tokenizer = new DelimitedRecordTokenizer(channel, '\n', true, format.getFieldDelimiter(),
+                format.shouldIgnoreBlanks());
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
@@ -107,6 +123,21 @@ public class DelimitedRecordChannel implements IOChannel {
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
         this.persistentCharSequence = new StringBuilder();
+        if (isLiteralCharacter(recordSeparator) && isLiteralCharacter(fieldSeparator)) {
+            this.tokenizer = new DelimitedRecordTokenizer(channel, recordSeparator.charAt(0), false,
+                    fieldSeparator.charAt(0), false);
+        }
+    }
+
+    /**
+     * Checks whether the given separator is a regular expression which matches only a single character, which is
+     * the separator itself.
+     *
+     * @param separator the separator specified as a regular expression.
+     * @return true if the separator is a single character without a special meaning.
+     */
+    private static boolean isLiteralCharacter(String separator) {
+        return separator != null && separator.length() == 1 && REGEX_META_CHARACTERS.indexOf(separator.charAt(0)) < 0;
     }
 
     @Override
@@ -289,46 +320,87 @@ public class DelimitedRecordChannel implements IOChannel {
         return record;
     }
 
+    /**
+     * Get the fields identified through the record.
+     *
+     * @param record the record which contains all the fields.
+     * @return fields which are separated as records.
+     */
+    private String[] getFields(String record) {
+        return record.split(getFieldSeparatorForReading());
+    }
+
     /**
      * <p>
-     * Split based on given regEx.
+     * Reads the next record through the tokenizer.
      * </p>
      * <p>
-     * This operation will produce null for blanks.
+     * This follows {@link #readRecord()}, the record terminated by the end of the channel will be the final record,
+     * and if it is empty no fields will be returned.
      * </p>
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
+     * @param fields list which the fields of the record would be added to.
+     * @throws BallerinaIOException during I/O error.
      */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = "";
-                continue;
-            }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
+    private void readFieldsThroughTokenizer(List<String> fields) throws BallerinaIOException {
+        boolean separated = tokenizer.readRecord(recordFields);
+        if (!separated) {
+            this.remaining = false;
+            if (recordFields.size() == 1 && recordFields.get(0).isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("The content returned from the channel %d is <void>",
+                            channel.hashCode()));
+                }
+                return;
             }
         }
-        return split;
+        fields.addAll(recordFields);
+        numberOfRecordsReadThroughChannel++;
     }
 
     /**
-     * Get the fields identified through the record.
+     * <p>
+     * Read the next record, adding its fields to the given list.
+     * </p>
+     * <p>
+     * This avoids creating an array for each record when the records are consumed one after the other. No fields will
+     * be added if all the records have being processed.
+     * </p>
      *
-     * @param record the record which contains all the fields.
-     * @return fields which are separated as records.
+     * @param fields list which the fields of the record would be added to.
+     * @return true if a record was read.
+     * @throws BallerinaIOException during I/O errors
      */
-    private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
+    public boolean read(List<String> fields) throws BallerinaIOException {
+        if (null == tokenizer) {
+            String[] record = read();
+            Collections.addAll(fields, record);
+            return record.length > 0;
+        }
+        int numberOfFields = fields.size();
+        if (remaining) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
+                        channel.hashCode()));
+            }
+            readFieldsThroughTokenizer(fields);
+            if (log.isTraceEnabled()) {
+                log.trace("The list of fields identified in record " + numberOfRecordsReadThroughChannel + "from " +
+                        "channel " + channel.hashCode() + "," + fields);
+            }
         } else {
-            return record.split(fieldSeparatorForReading);
+            logFinalRecordProcessed();
+        }
+        return fields.size() > numberOfFields;
+    }
+
+    private void logFinalRecordProcessed() {
+        //The channel could be null if it's being closed by a different source
+        if (null != channel) {
+            log.warn(String.format("The final record has already being processed through the channel %d",
+                    channel.hashCode()));
+        } else {
+            log.warn("The requested channel has already being closed");
         }
     }
 
@@ -347,6 +419,11 @@ public class DelimitedRecordChannel implements IOChannel {
     public String[] read() throws BallerinaIOException {
         final int emptyArrayIndex = 0;
         String[] fields = new String[emptyArrayIndex];
+        if (null != tokenizer) {
+            List<String> recordFieldList = new ArrayList<>();
+            read(recordFieldList);
+            return recordFieldList.toArray(fields);
+        }
         if (remaining) {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
@@ -366,13 +443,7 @@ public class DelimitedRecordChannel implements IOChannel {
                 }
             }
         } else {
-            //The channel could be null if it's being closed by a different source
-            if (null != channel) {
-                log.warn(String.format("The final record has already being processed through the channel %d",
-                        channel.hashCode()));
-            } else {
-                log.warn("The requested channel has already being closed");
-            }
+            logFinalRecordProcessed();
         }
         return fields;
     }
@@ -460,6 +531,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
+        if (null != tokenizer) {
+            return tokenizer.hasBufferedCharacters();
+        }
         return persistentCharSequence.length() > 0;
     }
 
@@ -470,6 +544,12 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        if (null != tokenizer) {
+            if (remaining && !tokenizer.hasMoreCharacters()) {
+                remaining = false;
+            }
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Splits the content of a {@link CharacterChannel} into records and fields in a single pass, for records and fields
+ * which are separated by single characters.
+ * </p>
+ * <p>
+ * Characters are read from the channel into a fixed buffer, and a field is created straight from the buffer unless
+ * it spans over two reads. If quoting is enabled, fields could be enclosed in double quotes as in RFC 4180. A double
+ * quote inside a quoted field is escaped with another double quote, and separators inside a quoted field are part
+ * of the field.
+ * </p>
+ * <p>
+ * Fields are identified the same way {@link String#split(String)} would split the record, i.e. trailing empty
+ * fields are removed, and an empty record has a single empty field.
+ * </p>
+ */
+class DelimitedRecordTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char QUOTE = '"';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private static final int FIELD_END = 0;
+    private static final int RECORD_END = 1;
+    private static final int CHANNEL_END = 2;
+
+    private final CharacterChannel channel;
+    private final char fieldSeparator;
+    private final char recordSeparator;
+    /**
+     * Specifies whether a carriage return before the record separator belongs to the separator.
+     */
+    private final boolean carriageReturnSeparated;
+    private final boolean quoted;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private boolean channelEnded = false;
+
+    /**
+     * Holds the content of the field being read, when it could not be created straight from the buffer.
+     */
+    private final StringBuilder fieldContent = new StringBuilder();
+    private String field;
+    private boolean fieldQuoted;
+
+    DelimitedRecordTokenizer(CharacterChannel channel, char recordSeparator, boolean carriageReturnSeparated,
+                             char fieldSeparator, boolean quoted) {
+        this.channel = channel;
+        this.recordSeparator = recordSeparator;
+        this.carriageReturnSeparated = carriageReturnSeparated;
+        this.fieldSeparator = fieldSeparator;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Checks whether there're characters read from the channel which are not processed yet.
+     *
+     * @return true if there're characters left in the buffer.
+     */
+    boolean hasBufferedCharacters() {
+        return position < limit;
+    }
+
+    /**
+     * Checks whether there're characters left to be processed, reading from the channel if the buffer is empty.
+     *
+     * @return true if there're more characters left.
+     * @throws BallerinaIOException during I/O error.
+     */
+    boolean hasMoreCharacters() throws BallerinaIOException {
+        return position < limit || fill();
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @param fields list which the fields of the record would be added to, after clearing it.
+     * @return true if the record was terminated by the record separator, false if it was terminated by the end of
+     * the channel.
+     * @throws BallerinaIOException during I/O error.
+     */
+    boolean readRecord(List<String> fields) throws BallerinaIOException {
+        fields.clear();
+        int fieldsToKeep = 0;
+        int terminator;
+        do {
+            terminator = readField();
+            fields.add(field);
+            if (fieldQuoted || !field.isEmpty()) {
+                fieldsToKeep = fields.size();
+            }
+        } while (terminator == FIELD_END);
+        if (fields.size() > 1) {
+            fields.subList(fieldsToKeep, fields.size()).clear();
+        }
+        return terminator == RECORD_END;
+    }
+
+    private boolean fill() throws BallerinaIOException {
+        if (channelEnded) {
+            return false;
+        }
+        position = 0;
+        limit = channel.read(buffer, 0, buffer.length);
+        if (limit == 0) {
+            channelEnded = true;
+            return false;
+        }
+        return true;
+    }
+
+    private int readField() throws BallerinaIOException {
+        fieldContent.setLength(0);
+        fieldQuoted = false;
+        if (position == limit && !fill()) {
+            field = "";
+            return CHANNEL_END;
+        }
+        if (quoted && buffer[position] == QUOTE) {
+            fieldQuoted = true;
+            position++;
+            return readQuotedField();
+        }
+        int start = position;
+        while (true) {
+            if (position == limit) {
+                fieldContent.append(buffer, start, position - start);
+                if (!fill()) {
+                    field = fieldContent.toString();
+                    return CHANNEL_END;
+                }
+                start = 0;
+            }
+            char character = buffer[position];
+            if (character == fieldSeparator) {
+                field = createField(start, position, false);
+                position++;
+                return FIELD_END;
+            }
+            if (character == recordSeparator) {
+                field = createField(start, position, carriageReturnSeparated);
+                position++;
+                return RECORD_END;
+            }
+            position++;
+        }
+    }
+
+    private int readQuotedField() throws BallerinaIOException {
+        int start = position;
+        while (true) {
+            if (position == limit) {
+                fieldContent.append(buffer, start, position - start);
+                if (!fill()) {
+                    // The closing quote is missing, hence the rest of the content is considered as the field
+                    field = fieldContent.toString();
+                    return CHANNEL_END;
+                }
+                start = 0;
+            }
+            if (buffer[position++] != QUOTE) {
+                continue;
+            }
+            fieldContent.append(buffer, start, position - 1 - start);
+            if (position == limit && !fill()) {
+                field = fieldContent.toString();
+                return CHANNEL_END;
+            }
+            if (buffer[position] != QUOTE) {
+                return readAfterClosingQuote();
+            }
+            // Two double quotes are an escaped double quote
+            fieldContent.append(QUOTE);
+            position++;
+            start = position;
+        }
+    }
+
+    /**
+     * Reads the characters between the closing quote and the next separator, which are appended to the field. A
+     * carriage return is dropped only if it is directly followed by the record separator.
+     */
+    private int readAfterClosingQuote() throws BallerinaIOException {
+        boolean carriageReturnPending = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                if (carriageReturnPending) {
+                    fieldContent.append(CARRIAGE_RETURN);
+                }
+                field = fieldContent.toString();
+                return CHANNEL_END;
+            }
+            char character = buffer[position++];
+            if (character == recordSeparator) {
+                field = fieldContent.toString();
+                return RECORD_END;
+            }
+            if (carriageReturnPending) {
+                fieldContent.append(CARRIAGE_RETURN);
+                carriageReturnPending = false;
+            }
+            if (character == fieldSeparator) {
+                field = fieldContent.toString();
+                return FIELD_END;
+            }
+            if (character == CARRIAGE_RETURN && carriageReturnSeparated) {
+                carriageReturnPending = true;
+            } else {
+                fieldContent.append(character);
+            }
+        }
+    }
+
+    private String createField(int start, int end, boolean stripCarriageReturn) {
+        if (fieldContent.length() == 0) {
+            if (stripCarriageReturn && end > start && buffer[end - 1] == CARRIAGE_RETURN) {
+                end--;
+            }
+            return new String(buffer, start, end - start);
+        }
+        fieldContent.append(buffer, start, end - start);
+        int length = fieldContent.length();
+        if (stripCarriageReturn && fieldContent.charAt(length - 1) == CARRIAGE_RETURN) {
+            fieldContent.setLength(length - 1);
+        }
+        return fieldContent.toString();
+    }
+}
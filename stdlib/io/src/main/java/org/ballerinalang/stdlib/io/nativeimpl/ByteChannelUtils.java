@@ -27,6 +27,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -124,10 +125,29 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object transferTo(BObject source, BObject destination) {
+        Channel sourceChannel = (Channel) source.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destinationChannel = (Channel) destination.getNativeData(BYTE_CHANNEL_NAME);
+        if (sourceChannel.hasReachedEnd()) {
+            return IOUtils.createEoFError();
+        }
+        try {
+            return sourceChannel.transferTo(destinationChannel);
+        } catch (Exception e) {
+            String msg = "error occurred while transferring bytes between the channels. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object transferFrom(BObject destination, BObject source) {
+        return transferTo(source, destination);
+    }
+
+    public static Object openReadableFile(BString pathUrl, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            channel = createChannel(memoryMapped ? mappedInFlow(pathUrl.getValue()) : inFlow(pathUrl.getValue()));
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (BError e) {
@@ -163,6 +183,19 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    private static Channel mappedInFlow(String pathUrl) throws BallerinaIOException {
+        Path path = Paths.get(pathUrl);
+        FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+        Channel channel;
+        try {
+            channel = new MappedFileIOChannel(fileChannel);
+        } catch (IOException e) {
+            throw new BallerinaIOException("unable to map the file " + pathUrl + ": " + e.getMessage(), e);
+        }
+        channel.setReadable(true);
+        return channel;
+    }
+
     private static Channel inFlow(String pathUrl, boolean accessMode) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel;
@@ -21,6 +21,7 @@ package org.ballerinalang.stdlib.io.nativeimpl;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -38,8 +39,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.Iterator;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.XML_ELEMENT_ITERATOR_NAME;
 
 /**
  * This class hold Java inter-ops bridging functions for io# *CharacterChannels.
@@ -107,6 +111,26 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static void initXmlElementIterator(BObject iterator, BObject channel, BArray path) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        Iterator<BXml> elements = XmlUtils.parseElements(reader, Arrays.asList(path.getStringArray()));
+        iterator.addNativeData(XML_ELEMENT_ITERATOR_NAME, elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextXmlElement(BObject iterator) {
+        Iterator<BXml> elements = (Iterator<BXml>) iterator.getNativeData(XML_ELEMENT_ITERATOR_NAME);
+        try {
+            if (elements.hasNext()) {
+                return elements.next();
+            }
+            return null;
+        } catch (BError e) {
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object readProperty(BObject channel, BString key, BString defaultValue) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
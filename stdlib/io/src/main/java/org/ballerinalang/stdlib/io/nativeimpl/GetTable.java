@@ -67,18 +67,15 @@ public class GetTable {
             if (delimitedChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
             }
-            List<String[]> records = new ArrayList<>();
-            while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
-            }
-            return getTable(bTypedesc, key, records);
+            return getTable(bTypedesc, key, delimitedChannel);
         } catch (BallerinaIOException | BError e) {
             String msg = "failed to process the delimited file: " + e.getMessage();
             return IOUtils.createError(msg);
         }
     }
 
-    private static BTable getTable(BTypedesc bTypedesc, BArray key, List<String[]> records) {
+    private static BTable getTable(BTypedesc bTypedesc, BArray key, DelimitedRecordChannel delimitedChannel)
+            throws BallerinaIOException {
         Type describingType = bTypedesc.getDescribingType();
         TableType newTableType;
         if (key.size() == 0) {
@@ -88,7 +85,11 @@ public class GetTable {
         }
         BTable table = ValueCreator.createTableValue(newTableType);
         StructureType structType = (StructureType) describingType;
-        for (String[] fields : records) {
+        // Records are added to the table as they are read, reusing the same list for the fields of each record
+        List<String> fields = new ArrayList<>();
+        while (delimitedChannel.hasNext()) {
+            fields.clear();
+            delimitedChannel.read(fields);
             final Map<String, Object> struct = getStruct(fields, structType);
             if (struct != null) {
                 table.add(ValueCreator.createRecordValue(describingType.getPackage(), describingType.getName(),
@@ -98,19 +99,19 @@ public class GetTable {
         return table;
     }
 
-    private static Map<String, Object> getStruct(String[] fields, final StructureType structType) {
+    private static Map<String, Object> getStruct(List<String> fields, final StructureType structType) {
         Map<String, Field> internalStructFields = structType.getFields();
         int fieldLength = internalStructFields.size();
         Map<String, Object> struct = null;
-        if (fields.length > 0) {
+        if (!fields.isEmpty()) {
             Iterator<Map.Entry<String, Field>> itr = internalStructFields.entrySet().iterator();
             struct = new HashMap();
             for (int i = 0; i < fieldLength; i++) {
                 final Field internalStructField = itr.next().getValue();
                 final int type = internalStructField.getFieldType().getTag();
                 String fieldName = internalStructField.getFieldName();
-                if (fields.length > i) {
-                    String value = fields[i];
+                if (fields.size() > i) {
+                    String value = fields.get(i);
                     switch (type) {
                         case TypeTags.INT_TAG:
                         case TypeTags.FLOAT_TAG:
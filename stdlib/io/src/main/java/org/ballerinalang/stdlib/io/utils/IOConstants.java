@@ -48,6 +48,11 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the iterator of xml elements which will be represented through the native struct.
+     */
+    public static final String XML_ELEMENT_ITERATOR_NAME = "xml_element_iterator";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
@@ -101,6 +101,55 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readBytes' function in ballerina/io package with a memory mapped file")
+    public void testReadBytesFromMappedFile() throws URISyntaxException {
+        int numberOfBytesToRead = 4;
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        BValueArray readBytes;
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initMappedReadableChannel", args);
+
+        byte[] expectedBytes = "1234".getBytes();
+        args = new BValue[] { new BInteger(numberOfBytesToRead) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BValueArray) returns[0];
+        Assert.assertEquals(readBytes.getBytes(), expectedBytes);
+
+        //Only the remaining two bytes will be read
+        expectedBytes = "56".getBytes();
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BValueArray) returns[0];
+        Assert.assertEquals(readBytes.getBytes(), expectedBytes);
+
+        expectedBytes = new byte[0];
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BValueArray) returns[0];
+        Assert.assertEquals(readBytes.getBytes(), expectedBytes);
+
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+    }
+
+    @Test(description = "Test 'transferTo' function in ballerina/io package")
+    public void testTransferBytes() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        String sourceToWrite = currentDirectoryPath + "/transferredFile.txt";
+
+        //Will initialize the channels
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initReadableChannel", args);
+        args = new BValue[] { new BString(sourceToWrite) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initWritableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferBytes");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6);
+
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), "123456".getBytes());
+    }
+
     @Test(description = "Test 'readCharacters' function in ballerina/io package")
     public void testReadCharacters() throws URISyntaxException {
         String resourceToRead = "datafiles/io/text/utf8file.txt";
@@ -386,6 +435,33 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlAsStream' function in ballerina/io package")
+    public void testXmlElementStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        args = new BValue[] { new BString("CATALOG"), new BString("CD") };
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlAsStream", args);
+        BValueArray titles = (BValueArray) returns[0];
+        Assert.assertEquals(titles.size(), 26);
+        Assert.assertEquals(titles.getString(0), "Empire Burlesque");
+        Assert.assertEquals(titles.getString(25), "Unchain my heart");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+
+        //The child elements of the root element are read if the path is not given
+        args = new BValue[] { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+        returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlAsStream");
+        titles = (BValueArray) returns[0];
+        Assert.assertEquals(titles.size(), 26);
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
@@ -18,6 +18,8 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -33,6 +35,16 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -278,4 +290,78 @@ public class BytesInputOutputBufferTest {
         channel.close();
         channel.getInputStream();
     }
+
+    @Test(description = "Transfer the content of a file to a channel which is not a file")
+    public void transferFileToChannel() throws IOException {
+        byte[] content = new byte[100 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path sourcePath = Files.createTempFile("source", ".txt");
+        Path targetPath = Files.createTempFile("target", ".txt");
+        Files.write(sourcePath, content);
+        AtomicInteger writes = new AtomicInteger();
+        Channel source = new FileIOChannel(FileChannel.open(sourcePath, StandardOpenOption.READ));
+        Channel target = new MockByteChannel(FileChannel.open(targetPath, StandardOpenOption.WRITE)) {
+            @Override
+            public int write(ByteBuffer buffer) throws IOException {
+                writes.incrementAndGet();
+                return super.write(buffer);
+            }
+        };
+        try {
+            Assert.assertEquals(source.transferTo(target), content.length);
+        } finally {
+            source.close();
+            target.close();
+        }
+
+        // The content is written through the channel instead of directly to the underlying file
+        Assert.assertTrue(writes.get() > 0);
+        Assert.assertEquals(Files.readAllBytes(targetPath), content);
+        Files.delete(sourcePath);
+        Files.delete(targetPath);
+    }
+
+    @Test(description = "Close a memory mapped channel while another thread reads it")
+    public void closeMappedChannelWhileReading() throws Exception {
+        int fileSize = 8 * 1024 * 1024;
+        Path filePath = Files.createTempFile("mapped", ".txt");
+        Files.write(filePath, new byte[fileSize]);
+        MappedFileIOChannel channel = new MappedFileIOChannel(FileChannel.open(filePath, StandardOpenOption.READ));
+        CountDownLatch reading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> reader = executor.submit(() -> {
+                ByteBuffer buffer = ByteBuffer.allocate(64);
+                long totalNumberOfBytesRead = 0;
+                try {
+                    int numberOfBytesRead;
+                    while ((numberOfBytesRead = channel.read(buffer)) > 0) {
+                        totalNumberOfBytesRead += numberOfBytesRead;
+                        buffer.clear();
+                        reading.countDown();
+                    }
+                    return totalNumberOfBytesRead;
+                } catch (ClosedChannelException e) {
+                    return -1L;
+                }
+            });
+            reading.await();
+            channel.close();
+            // The reader either fails once the channel is closed, or has read the whole file before it was closed
+            long result = reader.get();
+            Assert.assertTrue(result == -1 || result == fileSize, "unexpected number of bytes read: " + result);
+        } finally {
+            executor.shutdownNow();
+            Files.delete(filePath);
+        }
+
+        try {
+            channel.read(ByteBuffer.allocate(1));
+            Assert.fail("expected the closed channel not to be read");
+        } catch (ClosedChannelException e) {
+            // The mapped region is released, hence the channel cannot be read anymore
+        }
+    }
 }
@@ -268,6 +268,37 @@ public class CsvChannelTest {
         BRunUtil.invoke(csvInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test 'readRfcCSVRecords' with escaped quotes and line breaks within fields")
+    public void readRfcWithEscapedQuotesTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sampleRfcEscaped.csv";
+        BValueArray records;
+        BBoolean hasNextRecord;
+        int expectedRecordLength = 3;
+
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecord");
+        records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), expectedRecordLength);
+        Assert.assertEquals(records.getString(1), "Said \"Hi\"");
+        Assert.assertEquals(records.getString(2), "07xxxxxx");
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecord");
+        records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), expectedRecordLength);
+        Assert.assertEquals(records.getString(1), "WSO2\r\nColombo");
+        Assert.assertEquals(records.getString(2), "07xxxxxxx");
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "hasNextRecord");
+        hasNextRecord = (BBoolean) returns[0];
+        Assert.assertFalse(hasNextRecord.booleanValue(), "Not expecting anymore records");
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test 'readTdfCSVRecords'")
     public void readTdfTest() throws URISyntaxException {
         String resourceToRead = "datafiles/io/records/sampleTdf.tsv";
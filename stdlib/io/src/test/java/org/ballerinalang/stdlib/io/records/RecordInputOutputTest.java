@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -144,6 +145,24 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Reads carriage returns after the closing quote of a field")
+    public void readCarriageReturnAfterQuotedField() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcCarriageReturn.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        // Only the carriage return before the record separator is dropped
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User1", "Said\rHi", "Tel\r", "07x"});
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User2", "WSO2", "07y"});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.close();
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
@@ -28,6 +28,15 @@ function initReadableChannel(string filePath) returns io:Error? {
     }
 }
 
+function initMappedReadableChannel(string filePath) returns io:Error? {
+    var result = io:openReadableFile(filePath, true);
+    if (result is io:ReadableByteChannel) {
+        rch = result;
+    } else {
+        return result;
+    }
+}
+
 function initWritableChannel(string filePath) {
     wch = <io:WritableByteChannel> io:openWritableFile(filePath);
 }
@@ -58,6 +67,17 @@ function writeBytes(byte[] content, int startOffset) returns int|io:Error {
     }
 }
 
+function transferBytes() returns int|io:Error {
+    io:ReadableByteChannel? rChannel = rch;
+    io:WritableByteChannel? wChannel = wch;
+    if (rChannel is io:ReadableByteChannel && wChannel is io:WritableByteChannel) {
+        return rChannel.transferTo(wChannel);
+    } else {
+        io:GenericError e = error io:GenericError("Channels not initialized");
+        return e;
+    }
+}
+
 function closeReadableChannel() {
     io:ReadableByteChannel? rChannel = rch;
     if rChannel is io:ReadableByteChannel {
@@ -130,6 +130,26 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlAsStream(string... path) returns @tainted string[]|error {
+    var rCha = rch;
+    if (rCha is io:ReadableCharacterChannel) {
+        stream<xml, io:Error?> elements = rCha.readXmlAsStream(...path);
+        string[] titles = [];
+        record {| xml value; |}|io:Error? element = elements.next();
+        while (element is record {| xml value; |}) {
+            xml title = element.value/<TITLE>/*;
+            titles.push(title.toString());
+            element = elements.next();
+        }
+        if (element is io:Error) {
+            return element;
+        }
+        return titles;
+    }
+    io:GenericError e = error io:GenericError("Character channel not initialized properly");
+    return e;
+}
+
 function readAvailableProperty(string key) returns @tainted string?|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel) {
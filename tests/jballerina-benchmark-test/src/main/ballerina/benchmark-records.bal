@@ -0,0 +1,66 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Allocation benchmarks for record values. The GC summary columns of the results file (freed memory) show the
+// heap churn per operation.
+
+type Point record {|
+    int x;
+    int y;
+    int z;
+    int w;
+    int v;
+|};
+
+type Order record {|
+    int id;
+    string customer;
+    float amount;
+    boolean paid;
+    Point location;
+|};
+
+type OpenOrder record {
+    int id;
+    string customer;
+};
+
+json orderJson = {id: 1001, customer: "John Doe", amount: 250.5, paid: true,
+                  location: {x: 1, y: 2, z: 3, w: 4, v: 5}};
+
+string orderJsonString = orderJson.toJsonString();
+
+public function benchmarkClosedRecordCreation() {
+    Point p = {x: 1000, y: 2000, z: 3000, w: 4000, v: 5000};
+}
+
+public function benchmarkClosedRecordFieldUpdate() {
+    Point p = {x: 1000, y: 2000, z: 3000, w: 4000, v: 5000};
+    p.x = p.y + p.z;
+    p.w = p.v + p.x;
+}
+
+public function benchmarkOpenRecordWithRestFields() {
+    OpenOrder o = {id: 1, customer: "John Doe", "note": "deliver before noon", "priority": 1};
+}
+
+public function benchmarkJsonToClosedRecord() {
+    Order|error o = orderJson.cloneWithType(Order);
+}
+
+public function benchmarkJsonStringToClosedRecord() {
+    Order|error o = orderJsonString.fromJsonStringWithType(Order);
+}
@@ -0,0 +1,159 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// Workloads for the strand scheduler. Run the fan-out/fan-in benchmarks with the BALLERINA_SCHEDULER_QUEUE
+// environment variable set to `global` and to `work-stealing` to compare the two run queues. Run the blocking extern
+// benchmark with BALLERINA_SCHEDULER_BACKEND set to `platform` and to `virtual` (requires a JDK with virtual threads).
+
+const int FAN_OUT_SIZE = 16;
+const int CONCURRENT_BLOCKING_EXTERNS = 10000;
+
+isolated function blockingSleep(int millis) = @java:Method {
+    name: "blockingSleep",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+isolated function sumUpTo(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        sum += i;
+        i += 1;
+    }
+    return sum;
+}
+
+function fanOutFanInWithStart() returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < FAN_OUT_SIZE) {
+        futures.push(start sumUpTo(100));
+        i += 1;
+    }
+    int total = 0;
+    foreach future<int> f in futures {
+        int result = wait f;
+        total += result;
+    }
+    return total;
+}
+
+function fanOutFanInWithWorkers() returns int {
+    worker w1 returns int {
+        return sumUpTo(100);
+    }
+    worker w2 returns int {
+        return sumUpTo(100);
+    }
+    worker w3 returns int {
+        return sumUpTo(100);
+    }
+    worker w4 returns int {
+        return sumUpTo(100);
+    }
+    record {int w1; int w2; int w3; int w4;} results = wait {w1, w2, w3, w4};
+    return results.w1 + results.w2 + results.w3 + results.w4;
+}
+
+function pingPongWithWorkers(int messages) returns int {
+    worker ping returns int {
+        int i = 0;
+        int received = 0;
+        while (i < messages) {
+            i -> pong;
+            received = <- pong;
+            i += 1;
+        }
+        return received;
+    }
+    worker pong returns int {
+        int j = 0;
+        int received = 0;
+        while (j < messages) {
+            received = <- ping;
+            received -> ping;
+            j += 1;
+        }
+        return received;
+    }
+    record {int ping; int pong;} results = wait {ping, pong};
+    return results.ping;
+}
+
+function runBlockingExterns(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < CONCURRENT_BLOCKING_EXTERNS ? remaining : CONCURRENT_BLOCKING_EXTERNS;
+        future<()>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            futures.push(start blockingSleep(1));
+            i += 1;
+        }
+        foreach future<()> f in futures {
+            _ = wait f;
+        }
+        remaining -= batchSize;
+    }
+}
+
+public function benchmarkFanOutFanInWithStart(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = fanOutFanInWithStart();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = fanOutFanInWithStart();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkFanOutFanInWithWorkers(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = fanOutFanInWithWorkers();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = fanOutFanInWithWorkers();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkPingPongWithWorkers(int warmupCount, int benchmarkCount) returns int {
+    _ = pingPongWithWorkers(warmupCount);
+    int startTime = nanoTime();
+    _ = pingPongWithWorkers(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkConcurrentBlockingExterns(int warmupCount, int benchmarkCount) returns int {
+    runBlockingExterns(warmupCount);
+    int startTime = nanoTime();
+    runBlockingExterns(benchmarkCount);
+    return (nanoTime() - startTime);
+}
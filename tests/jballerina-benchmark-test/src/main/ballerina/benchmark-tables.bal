@@ -0,0 +1,133 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Benchmarks for keyed table lookups and updates. The tables are filled once, so each run measures a single
+// operation against a table of `TABLE_SIZE` rows.
+
+import ballerina/lang.'table as tables;
+
+const int TABLE_SIZE = 100000;
+const int DEPT_COUNT = 1000;
+
+type Employee record {|
+    readonly int id;
+    readonly int deptId;
+    string name;
+    float salary;
+|};
+
+type Department record {|
+    int id;
+    string name;
+|};
+
+type Account record {|
+    readonly string code;
+    readonly int branch;
+    float balance;
+|};
+
+table<Employee> key(id) employeeTable = createEmployeeTable();
+table<Account> key(code, branch) accountTable = createAccountTable();
+table<Employee> key(id) indexedEmployeeTable = createIndexedEmployeeTable();
+Department[] departments = [{id: 1, name: "Engineering"}, {id: 2, name: "Sales"}, {id: 3, name: "Marketing"}];
+int nextEmployeeId = TABLE_SIZE;
+int lookupId = 0;
+
+function createEmployeeTable() returns table<Employee> key(id) {
+    table<Employee> key(id) tab = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        tab.add({id: i, deptId: i % DEPT_COUNT, name: "Employee " + i.toString(), salary: 1000.0});
+    }
+    return tab;
+}
+
+function createIndexedEmployeeTable() returns table<Employee> key(id) {
+    table<Employee> key(id) tab = createEmployeeTable();
+    tables:addIndex(tab, "deptId");
+    return tab;
+}
+
+function createAccountTable() returns table<Account> key(code, branch) {
+    table<Account> key(code, branch) tab = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        tab.add({code: "ACC" + i.toString(), branch: i % 100, balance: 100.0});
+    }
+    return tab;
+}
+
+function nextLookupId() returns int {
+    lookupId = (lookupId + 7919) % TABLE_SIZE;
+    return lookupId;
+}
+
+public function benchmarkTableKeyedGet() {
+    Employee e = employeeTable.get(nextLookupId());
+}
+
+public function benchmarkTableHasKey() {
+    boolean found = employeeTable.hasKey(nextLookupId());
+}
+
+public function benchmarkTableMemberAccess() {
+    Employee? e = employeeTable[nextLookupId()];
+}
+
+public function benchmarkTableKeyedPut() {
+    int id = nextLookupId();
+    employeeTable.put({id: id, deptId: id % DEPT_COUNT, name: "Employee " + id.toString(), salary: 2000.0});
+}
+
+public function benchmarkTableAddAndRemove() {
+    int id = nextEmployeeId;
+    nextEmployeeId += 1;
+    employeeTable.add({id: id, deptId: 0, name: "Temporary", salary: 0.0});
+    Employee e = employeeTable.remove(id);
+}
+
+public function benchmarkTableCompositeKeyGet() {
+    int i = nextLookupId();
+    Account a = accountTable.get(["ACC" + i.toString(), i % 100]);
+}
+
+public function benchmarkTableIteration() {
+    float total = 0.0;
+    foreach Employee e in employeeTable {
+        total += e.salary;
+    }
+}
+
+public function benchmarkTableWhereWithoutIndex() {
+    int deptId = nextLookupId() % DEPT_COUNT;
+    Employee[] result = from var e in employeeTable where e.deptId == deptId select e;
+}
+
+public function benchmarkTableWhereWithIndex() {
+    int deptId = nextLookupId() % DEPT_COUNT;
+    Employee[] result = from var e in indexedEmployeeTable where e.deptId == deptId select e;
+}
+
+public function benchmarkTableJoinWithoutIndex() {
+    string[] result = from var d in departments
+                      join var e in employeeTable on d.id equals e.deptId
+                      select e.name;
+}
+
+public function benchmarkTableJoinWithIndex() {
+    string[] result = from var d in departments
+                      join var e in indexedEmployeeTable on d.id equals e.deptId
+                      select e.name;
+}
@@ -36,6 +36,10 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkFanOutFanInWithStart", benchmarkFanOutFanInWithStart);
+    addSingleExecFunction("benchmarkFanOutFanInWithWorkers", benchmarkFanOutFanInWithWorkers);
+    addSingleExecFunction("benchmarkPingPongWithWorkers", benchmarkPingPongWithWorkers);
+    addSingleExecFunction("benchmarkConcurrentBlockingExterns", benchmarkConcurrentBlockingExterns);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +67,20 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkClosedRecordCreation", benchmarkClosedRecordCreation);
+    addMultiExecFunction("benchmarkClosedRecordFieldUpdate", benchmarkClosedRecordFieldUpdate);
+    addMultiExecFunction("benchmarkOpenRecordWithRestFields", benchmarkOpenRecordWithRestFields);
+    addMultiExecFunction("benchmarkJsonToClosedRecord", benchmarkJsonToClosedRecord);
+    addMultiExecFunction("benchmarkJsonStringToClosedRecord", benchmarkJsonStringToClosedRecord);
+    addMultiExecFunction("benchmarkTableKeyedGet", benchmarkTableKeyedGet);
+    addMultiExecFunction("benchmarkTableHasKey", benchmarkTableHasKey);
+    addMultiExecFunction("benchmarkTableMemberAccess", benchmarkTableMemberAccess);
+    addMultiExecFunction("benchmarkTableKeyedPut", benchmarkTableKeyedPut);
+    addMultiExecFunction("benchmarkTableAddAndRemove", benchmarkTableAddAndRemove);
+    addMultiExecFunction("benchmarkTableCompositeKeyGet", benchmarkTableCompositeKeyGet);
+    addMultiExecFunction("benchmarkTableIteration", benchmarkTableIteration);
+    addMultiExecFunction("benchmarkTableWhereWithoutIndex", benchmarkTableWhereWithoutIndex);
+    addMultiExecFunction("benchmarkTableWhereWithIndex", benchmarkTableWhereWithIndex);
+    addMultiExecFunction("benchmarkTableJoinWithoutIndex", benchmarkTableJoinWithoutIndex);
+    addMultiExecFunction("benchmarkTableJoinWithIndex", benchmarkTableJoinWithIndex);
 }
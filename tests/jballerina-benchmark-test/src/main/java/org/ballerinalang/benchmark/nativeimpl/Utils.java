@@ -145,6 +145,19 @@ public class Utils {
         return StringUtils.fromString(result.toString());
     }
 
+    /**
+     * Blocks the calling thread, simulating a blocking extern call such as a JDBC or file operation.
+     *
+     * @param millis time to block in milliseconds
+     */
+    public static void blockingSleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void formatHexString(StringBuilder result, int k, StringBuilder padding, char x, Object... args) {
         final Object argsValues = args[k];
         final Type type = TypeUtils.getType(argsValues);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding elements to an {@link ArrayValueImpl}, which grows the array as it fills up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArrayValueBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private BArrayType intArrayType;
+    private BArrayType stringArrayType;
+    private BArrayType anyArrayType;
+    private BString element;
+
+    @Setup
+    public void setup() {
+        this.intArrayType = new BArrayType(PredefinedTypes.TYPE_INT);
+        this.stringArrayType = new BArrayType(PredefinedTypes.TYPE_STRING);
+        this.anyArrayType = new BArrayType(PredefinedTypes.TYPE_ANY);
+        this.element = StringUtils.fromString("element");
+    }
+
+    @Benchmark
+    public ArrayValueImpl addInt() {
+        ArrayValueImpl array = new ArrayValueImpl(this.intArrayType);
+        for (int i = 0; i < this.size; i++) {
+            array.add(i, (long) i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl addString() {
+        ArrayValueImpl array = new ArrayValueImpl(this.stringArrayType);
+        for (int i = 0; i < this.size; i++) {
+            array.add(i, this.element);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendRef() {
+        ArrayValueImpl array = new ArrayValueImpl(this.anyArrayType);
+        for (int i = 0; i < this.size; i++) {
+            array.append(this.element);
+        }
+        return array;
+    }
+}
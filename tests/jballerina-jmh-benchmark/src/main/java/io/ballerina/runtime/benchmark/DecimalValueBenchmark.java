@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the arithmetic operations of {@link DecimalValue}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecimalValueBenchmark {
+
+    private DecimalValue lhs;
+    private DecimalValue rhs;
+
+    @Setup
+    public void setup() {
+        this.lhs = new DecimalValue("12345.6789");
+        this.rhs = new DecimalValue("98.7654321");
+    }
+
+    @Benchmark
+    public DecimalValue add() {
+        return this.lhs.add(this.rhs);
+    }
+
+    @Benchmark
+    public DecimalValue subtract() {
+        return this.lhs.subtract(this.rhs);
+    }
+
+    @Benchmark
+    public DecimalValue multiply() {
+        return this.lhs.multiply(this.rhs);
+    }
+
+    @Benchmark
+    public DecimalValue divide() {
+        return this.lhs.divide(this.rhs);
+    }
+}
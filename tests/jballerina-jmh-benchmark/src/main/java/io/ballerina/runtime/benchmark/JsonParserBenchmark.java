@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link JsonParser} with the {@link Utf8JsonParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JsonParserBenchmark {
+
+    @Param({"1KB", "1MB", "100MB"})
+    public String payloadSize;
+
+    private String jsonString;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+        this.jsonString = createPayload(parseSize(this.payloadSize));
+        this.jsonBytes = this.jsonString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object parseString() {
+        return JsonParser.parse(this.jsonString);
+    }
+
+    @Benchmark
+    public Object parseUtf8Reader() {
+        return JsonParser.parse(new InputStreamReader(new ByteArrayInputStream(this.jsonBytes),
+                                                      StandardCharsets.UTF_8),
+                                JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    @Benchmark
+    public Object parseUtf8Bytes() {
+        return Utf8JsonParser.parse(this.jsonBytes, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    @Benchmark
+    public Object parseUtf8Stream() {
+        return Utf8JsonParser.parse(new ByteArrayInputStream(this.jsonBytes),
+                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Reads the top level array one element at a time, which is how a large payload is streamed.
+     */
+    @Benchmark
+    public void pullUtf8Elements(Blackhole blackhole) {
+        Utf8JsonParser parser = new Utf8JsonParser(new ByteArrayInputStream(this.jsonBytes),
+                                                   JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        parser.next();
+        while (parser.next() != Utf8JsonParser.Event.END_ARRAY) {
+            blackhole.consume(parser.readValue());
+        }
+    }
+
+    private static int parseSize(String size) {
+        if (size.endsWith("MB")) {
+            return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024 * 1024;
+        }
+        if (size.endsWith("KB")) {
+            return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024;
+        }
+        return Integer.parseInt(size);
+    }
+
+    /**
+     * Creates a JSON array of records of about the given size in bytes.
+     */
+    private static String createPayload(int size) {
+        StringBuilder builder = new StringBuilder(size + 256);
+        builder.append('[');
+        int id = 0;
+        while (builder.length() < size) {
+            if (id > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(id)
+                    .append(",\"name\":\"item-").append(id).append("\"")
+                    .append(",\"description\":\"caf\u00e9 \\\"special\\\" edition\\n\"")
+                    .append(",\"price\":").append(id % 1000).append('.').append(id % 100)
+                    .append(",\"available\":").append(id % 2 == 0)
+                    .append(",\"discount\":null")
+                    .append(",\"tags\":[\"a\",\"b\",").append(id % 7).append("]}");
+            id++;
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
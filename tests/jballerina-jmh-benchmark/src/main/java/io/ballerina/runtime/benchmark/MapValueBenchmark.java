@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the get and put operations of {@link MapValueImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapValueBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private BMapType mapType;
+    private BString[] keys;
+    private MapValueImpl<BString, Object> filledMap;
+
+    @Setup
+    public void setup() {
+        this.mapType = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+        this.keys = new BString[this.size];
+        this.filledMap = new MapValueImpl<>(this.mapType);
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = StringUtils.fromString("key-" + i);
+            this.filledMap.put(this.keys[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> put() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(this.mapType);
+        for (int i = 0; i < this.size; i++) {
+            map.put(this.keys[i], (long) i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (BString key : this.keys) {
+            blackhole.consume(this.filledMap.get(key));
+        }
+    }
+}
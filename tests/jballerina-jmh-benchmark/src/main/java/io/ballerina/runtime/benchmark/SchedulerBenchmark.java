@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Benchmarks spawning strands on the {@link Scheduler} and waiting for all of them to complete, for each run queue
+ * and backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private static final int PARENT_COUNT = 64;
+    private static final int CHILD_COUNT = 256;
+
+    @Param({RuntimeConstants.SCHEDULER_QUEUE_GLOBAL, RuntimeConstants.SCHEDULER_QUEUE_WORK_STEALING})
+    public String queueType;
+
+    @Param({RuntimeConstants.SCHEDULER_BACKEND_PLATFORM, RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL})
+    public String backend;
+
+    @Param({"4"})
+    public int threads;
+
+    @Benchmark
+    public int spawnAndWait() {
+        Scheduler scheduler = new Scheduler(this.threads, false, this.queueType, this.backend);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, "child", null);
+            }
+            return null;
+        };
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            scheduler.schedule(new Object[1], parent, null, null, "parent", null);
+        }
+
+        // Returns once all the strands are done, since the scheduler is not immortal.
+        scheduler.start();
+        return completed.get();
+    }
+}
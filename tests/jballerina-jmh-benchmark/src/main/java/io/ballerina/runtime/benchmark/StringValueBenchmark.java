@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BmpStringValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BmpStringValue#concat(BString)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringValueBenchmark {
+
+    private static final int APPEND_COUNT = 100;
+
+    @Param({"8", "1024"})
+    public int length;
+
+    private BString left;
+    private BString right;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(this.length);
+        for (int i = 0; i < this.length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        this.left = new BmpStringValue(builder.toString());
+        this.right = new BmpStringValue(builder.reverse().toString());
+    }
+
+    @Benchmark
+    public BString concat() {
+        return this.left.concat(this.right);
+    }
+
+    /**
+     * Appends to a string in a loop, as in `s = s + x`.
+     */
+    @Benchmark
+    public BString concatInLoop() {
+        BString result = this.left;
+        for (int i = 0; i < APPEND_COUNT; i++) {
+            result = result.concat(this.right);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks key lookups and inserts on a keyed {@link TableValueImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableValueBenchmark {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private BTableType tableType;
+    private MapValueImpl<BString, Object>[] rows;
+    private TableValueImpl<Object, MapValueImpl<BString, Object>> filledTable;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        // Equivalent of `table<Employee> key(id)` where `type Employee record {| readonly int id; string name; |}`
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED + SymbolFlags.READONLY));
+        fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        BRecordType recordType = new BRecordType("Employee", new Module("$anon", ".", "0.0.0"), 0, fields, null, true,
+                                                 TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+        this.tableType = new BTableType(recordType, new String[]{"id"}, false);
+
+        this.rows = new MapValueImpl[this.size];
+        this.filledTable = new TableValueImpl<>(this.tableType);
+        for (int i = 0; i < this.size; i++) {
+            MapValueImpl<BString, Object> row = new MapValueImpl<>(recordType);
+            row.put(ID, (long) i);
+            row.put(NAME, StringUtils.fromString("employee-" + i));
+            this.rows[i] = row;
+            this.filledTable.add(row);
+        }
+    }
+
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            blackhole.consume(this.filledTable.get((long) i));
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Object, MapValueImpl<BString, Object>> add() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = new TableValueImpl<>(this.tableType);
+        for (MapValueImpl<BString, Object> row : this.rows) {
+            table.add(row);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link TypeChecker#checkIsType(Object, Type)} for the kinds of checks done by type tests and casts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeCheckerBenchmark {
+
+    private Object intValue;
+    private Type unionType;
+    private MapValueImpl<BString, Object> record;
+    private Type structurallyEqualRecordType;
+    private Type mapOfAnydataType;
+    private ArrayValueImpl intArray;
+    private Type jsonArrayType;
+
+    @Setup
+    public void setup() {
+        this.intValue = 42L;
+        this.unionType = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN,
+                                                      PredefinedTypes.TYPE_INT));
+
+        BRecordType personType = createPersonType("Person");
+        this.record = new MapValueImpl<>(personType);
+        this.record.put(StringUtils.fromString("name"), StringUtils.fromString("John"));
+        this.record.put(StringUtils.fromString("age"), 25L);
+        this.structurallyEqualRecordType = createPersonType("Employee");
+        this.mapOfAnydataType = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+
+        this.intArray = new ArrayValueImpl(new long[]{1, 2, 3, 4, 5}, false);
+        this.jsonArrayType = new BArrayType(PredefinedTypes.TYPE_JSON);
+    }
+
+    private static BRecordType createPersonType(String name) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        fields.put("age", new BField(PredefinedTypes.TYPE_INT, "age", SymbolFlags.REQUIRED));
+        return new BRecordType(name, new Module("$anon", ".", "0.0.0"), 0, fields, null, true,
+                               TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+
+    @Benchmark
+    public boolean simpleValueInUnion() {
+        return TypeChecker.checkIsType(this.intValue, this.unionType);
+    }
+
+    @Benchmark
+    public boolean recordInSameRecordType() {
+        return TypeChecker.checkIsType(this.record, this.record.getType());
+    }
+
+    @Benchmark
+    public boolean recordInStructurallyEqualRecordType() {
+        return TypeChecker.checkIsType(this.record, this.structurallyEqualRecordType);
+    }
+
+    @Benchmark
+    public boolean recordInMapOfAnydata() {
+        return TypeChecker.checkIsType(this.record, this.mapOfAnydataType);
+    }
+
+    @Benchmark
+    public boolean intArrayInJsonArray() {
+        return TypeChecker.checkIsType(this.intArray, this.jsonArrayType);
+    }
+}
@@ -73,6 +73,18 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause keys compared by value and type, not by string representation")
+    public void testJoinClauseWithTypedKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithTypedKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause keys which are equal but differ in field order, sign of zero or scale")
+    public void testJoinClauseWithEqualKeysOfDifferentShape() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithEqualKeysOfDifferentShape");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test outer join clause with record variable definition")
     public void testOuterJoinClauseWithRecordVariable() {
         BValue[] values = BRunUtil.invoke(result, "testOuterJoinClauseWithRecordVariable");
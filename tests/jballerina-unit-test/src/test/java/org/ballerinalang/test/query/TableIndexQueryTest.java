@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions over tables with secondary indexes.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexQueryTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/table-index-queries.bal");
+    }
+
+    @Test(description = "Test where clause on an indexed field")
+    public void testWhereClauseWithIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereClauseWithIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test index after adding, replacing and removing members")
+    public void testIndexUpdatedOnTableMutation() {
+        BValue[] values = BRunUtil.invoke(result, "testIndexUpdatedOnTableMutation");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test inner and outer join clauses on an indexed field")
+    public void testJoinClauseWithIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test adding an index on a mutable field")
+    public void testAddIndexOnMutableField() {
+        BValue[] values = BRunUtil.invoke(result, "testAddIndexOnMutableField");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test where clause evaluated only for the members found in the index")
+    public void testWhereClauseLooksUpIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereClauseLooksUpIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause looking up the index for each lhs member")
+    public void testJoinClauseLooksUpIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseLooksUpIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test adding an index on a read-only table")
+    public void testAddIndexOnReadOnlyTable() {
+        BValue[] values = BRunUtil.invoke(result, "testAddIndexOnReadOnlyTable");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -455,3 +455,56 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Tagged record {|
+    anydata tag;
+    string name;
+|};
+
+function testJoinClauseWithTypedKeys() returns boolean {
+    Tagged[] lhs = [{tag: 1, name: "int"}, {tag: "1", name: "string"}, {tag: [1, "a"], name: "tuple"},
+                    {tag: (), name: "nil"}];
+    Tagged[] rhs = [{tag: "1", name: "A"}, {tag: [1, "a"], name: "B"}, {tag: 1, name: "C"}, {tag: 1, name: "D"},
+                    {tag: 1.0, name: "E"}];
+
+    string[] joined = from var l in lhs
+                      join var r in rhs on l.tag equals r.tag
+                      select l.name + ":" + r.name;
+    string[] outerJoined = from var l in lhs
+                           outer join var r in rhs on l.tag equals r.tag
+                           select l.name + ":" + (r?.name ?: "-");
+
+    return joined == ["int:C", "int:D", "string:A", "tuple:B"]
+        && outerJoined == ["int:C", "int:D", "string:A", "tuple:B", "nil:-"];
+}
+
+type Keyed record {|
+    anydata key;
+    string name;
+|};
+
+function testJoinClauseWithEqualKeysOfDifferentShape() returns boolean {
+    map<int> ab = {a: 1, b: 2};
+    map<int> ba = {b: 2, a: 1};
+    record {| int a; int b; |} rec = {b: 2, a: 1};
+    Keyed[] lhs = [{key: ab, name: "ab"}, {key: 0.0, name: "zero"}, {key: -0.0, name: "negZero"},
+                   {key: 1.0d, name: "decimal"}];
+    Keyed[] rhs = [{key: ba, name: "ba"}, {key: rec, name: "rec"}, {key: -0.0, name: "negZero"},
+                   {key: 0.0, name: "zero"}, {key: 1.00d, name: "decimal"}];
+
+    string[] joined = from var l in lhs
+                      join var r in rhs on l.key equals r.key
+                      select l.name + ":" + r.name;
+
+    // Keys match exactly when they are `==`, whichever order their fields were added in
+    string[] expected = [];
+    foreach var l in lhs {
+        foreach var r in rhs {
+            if l.key == r.key {
+                expected.push(l.name + ":" + r.name);
+            }
+        }
+    }
+    return joined == expected && joined.indexOf("ab:ba") != () && joined.indexOf("ab:rec") != ()
+        && joined.indexOf("decimal:decimal") != ();
+}
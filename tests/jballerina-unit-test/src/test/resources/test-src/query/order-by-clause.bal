@@ -498,6 +498,53 @@ function testQueryExprWithOrderByClauseAndInnerQueries2() returns CustomerProfil
     return customerProfileList;
 }
 
+function testQueryExprWithOrderByClauseAndLimit() returns boolean {
+    boolean testPassed = true;
+
+    Student s1 = {id: 1, fname: "John", fee: 2000.56, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: (), fee: 4000.56, impact: 0.4, isUndergrad: false};
+    Student s3 = {id: 3, fname: "Anne", fee: 3000.56, impact: 0.4, isUndergrad: true};
+    Student s4 = {id: 4, fname: "Zeth", fee: 3000.56, impact: 0.4, isUndergrad: true};
+    Student s5 = {id: 5, fname: "Anne", fee: 1000.56, impact: 0.4, isUndergrad: false};
+    Student s6 = {id: 6, fname: "Anne", fee: 3000.56, impact: 0.4, isUndergrad: true};
+
+    Student[] studentList = [s1, s2, s3, s4, s5, s6];
+
+    // frames with equal order keys stay in the order of the input
+    Student[] opStudentList = from var student in studentList
+        order by student.fee descending, student.fname ascending
+        limit 4
+        select student;
+
+    testPassed = testPassed && opStudentList.length() == 4;
+    testPassed = testPassed && opStudentList[0] == s2;
+    testPassed = testPassed && opStudentList[1] == s3;
+    testPassed = testPassed && opStudentList[2] == s6;
+    testPassed = testPassed && opStudentList[3] == s4;
+
+    // () comes last in both directions
+    opStudentList = from var student in studentList
+        order by student.fname descending
+        limit 10
+        select student;
+
+    testPassed = testPassed && opStudentList.length() == 6;
+    testPassed = testPassed && opStudentList[0] == s4;
+    testPassed = testPassed && opStudentList[1] == s1;
+    testPassed = testPassed && opStudentList[2] == s3;
+    testPassed = testPassed && opStudentList[5] == s2;
+
+    opStudentList = from var student in studentList
+        where student.id > 10
+        order by student.id
+        limit 2
+        select student;
+
+    testPassed = testPassed && opStudentList.length() == 0;
+
+    return testPassed;
+}
+
 function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
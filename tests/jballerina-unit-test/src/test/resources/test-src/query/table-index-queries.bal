@@ -0,0 +1,161 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.'table as tables;
+
+type Employee record {|
+    readonly int id;
+    readonly int deptId;
+    readonly string grade;
+    string name;
+|};
+
+type Dept record {|
+    readonly int id;
+    string name;
+|};
+
+int whereEvaluations = 0;
+
+function getEmployees() returns table<Employee> key(id) {
+    table<Employee> key(id) employees = table [
+        {id: 1, deptId: 10, grade: "A", name: "Alex"},
+        {id: 2, deptId: 20, grade: "B", name: "Ranjan"},
+        {id: 3, deptId: 10, grade: "B", name: "John"},
+        {id: 4, deptId: 30, grade: "A", name: "Mary"},
+        {id: 5, deptId: 10, grade: "A", name: "Kate"}
+    ];
+    return employees;
+}
+
+function testWhereClauseWithIndex() returns boolean {
+    table<Employee> key(id) employees = getEmployees();
+    tables:addIndex(employees, "deptId");
+    int deptId = 10;
+
+    string[] names = from var e in employees where e.deptId == deptId select e.name;
+    string[] namesWithLiteral = from var e in employees where 10 == e.deptId select e.name;
+    string[] namesWithConjunction = from var e in employees where (e.deptId == 10 && e.grade == "A") select e.name;
+    string[] noMatches = from var e in employees where e.deptId == 40 select e.name;
+
+    return names == ["Alex", "John", "Kate"] && namesWithLiteral == ["Alex", "John", "Kate"]
+        && namesWithConjunction == ["Alex", "Kate"] && noMatches.length() == 0;
+}
+
+function testIndexUpdatedOnTableMutation() returns boolean {
+    table<Employee> key(id) employees = getEmployees();
+    tables:addIndex(employees, "deptId");
+
+    employees.add({id: 6, deptId: 30, grade: "C", name: "Anne"});
+    _ = employees.remove(4);
+    employees.put({id: 2, deptId: 30, grade: "B", name: "Ranjan"});
+    employees.put({id: 1, deptId: 10, grade: "B", name: "Alexander"});
+
+    string[] dept30 = from var e in employees where e.deptId == 30 select e.name;
+    string[] dept20 = from var e in employees where e.deptId == 20 select e.name;
+    string[] dept10 = from var e in employees where e.deptId == 10 select e.name;
+
+    employees.removeAll();
+    string[] afterClear = from var e in employees where e.deptId == 10 select e.name;
+
+    return dept30 == ["Ranjan", "Anne"] && dept20.length() == 0 && dept10 == ["Alexander", "John", "Kate"]
+        && afterClear.length() == 0;
+}
+
+function testJoinClauseWithIndex() returns boolean {
+    table<Employee> key(id) employees = getEmployees();
+    tables:addIndex(employees, "deptId");
+    Dept[] depts = [{id: 10, name: "Engineering"}, {id: 20, name: "Sales"}, {id: 40, name: "Legal"}];
+
+    string[] joined = from var d in depts
+                      join var e in employees on d.id equals e.deptId
+                      select d.name + ":" + e.name;
+    string[] outerJoined = from var d in depts
+                           outer join var e in employees on d.id equals e.deptId
+                           select d.name + ":" + (e?.name ?: "-");
+
+    return joined == ["Engineering:Alex", "Engineering:John", "Engineering:Kate", "Sales:Ranjan"]
+        && outerJoined == ["Engineering:Alex", "Engineering:John", "Engineering:Kate", "Sales:Ranjan", "Legal:-"];
+}
+
+function testAddIndexOnMutableField() returns boolean {
+    table<Dept> key(id) depts = table [{id: 10, name: "Engineering"}];
+    error? result = trap tables:addIndex(depts, "name");
+    return result is error;
+}
+
+function testWhereClauseLooksUpIndex() returns boolean {
+    table<Employee> key(id) employees = getEmployees();
+    table<Employee> key(id) indexedEmployees = getEmployees();
+    tables:addIndex(indexedEmployees, "deptId");
+
+    // The where clause is evaluated for every member of a table without an index
+    whereEvaluations = 0;
+    string[] names = from var e in employees where countWhereEvaluation() && e.deptId == 10 select e.name;
+    int evaluations = whereEvaluations;
+
+    // and only for the members found in the index otherwise
+    whereEvaluations = 0;
+    string[] indexedNames = from var e in indexedEmployees where countWhereEvaluation() && e.deptId == 10
+                            select e.name;
+    int indexedEvaluations = whereEvaluations;
+
+    return names == ["Alex", "John", "Kate"] && indexedNames == names && evaluations == 5
+        && indexedEvaluations == 3;
+}
+
+function countWhereEvaluation() returns boolean {
+    whereEvaluations += 1;
+    return true;
+}
+
+function testJoinClauseLooksUpIndex() returns boolean {
+    Dept[] depts = [{id: 10, name: "Engineering"}, {id: 40, name: "Legal"}];
+
+    // An employee is hired to each department before it is joined. Without an index, the employees are read
+    // before the first department is joined, hence only the employees found with an index include the new hires.
+    table<Employee> key(id) employees = getEmployees();
+    string[] names = from var d in depts
+                     let int hired = hire(employees, d.id)
+                     join var e in employees on d.id equals e.deptId
+                     select e.name;
+
+    table<Employee> key(id) indexedEmployees = getEmployees();
+    tables:addIndex(indexedEmployees, "deptId");
+    string[] indexedNames = from var d in depts
+                            let int hired = hire(indexedEmployees, d.id)
+                            join var e in indexedEmployees on d.id equals e.deptId
+                            select e.name;
+
+    return names == ["Alex", "John", "Kate"] && indexedNames == ["Alex", "John", "Kate", "Hire10", "Hire40"];
+}
+
+function hire(table<Employee> key(id) employees, int deptId) returns int {
+    int id = 100 + deptId;
+    employees.add({id: id, deptId: deptId, grade: "C", name: "Hire" + deptId.toString()});
+    return id;
+}
+
+function testAddIndexOnReadOnlyTable() returns boolean {
+    table<Employee> key(id) & readonly employees = table [{id: 1, deptId: 10, grade: "A", name: "Alex"}];
+    error? result = trap tables:addIndex(employees, "deptId");
+
+    table<Employee> key(id) frozenEmployees = getEmployees().cloneReadOnly();
+    error? frozenResult = trap tables:addIndex(frozenEmployees, "deptId");
+
+    return result is error && result.message() == "{ballerina/lang.table}InvalidUpdate"
+        && frozenResult is error && frozenResult.message() == "{ballerina/lang.table}InvalidUpdate";
+}